@@ -0,0 +1,23 @@
+package com.example.newscussbe.client;
+
+/**
+ * Python API 호출 우선순위 (가중치가 클수록 혼잡 시 더 많은 몫을 받음)
+ */
+public enum CallPriority {
+    INTERACTIVE_STREAM(32),  // 스트리밍 토론 응답
+    TURN(16),                // 토론 응답
+    START(8),                // 토론 시작
+    REPORT(4),               // 요약, 피드백
+    INGEST(2),               // 기사 처리, 주제 생성
+    BACKGROUND(1);           // 토론 요약본 갱신 등 사용자가 기다리지 않는 작업
+
+    private final int weight;
+
+    CallPriority(int weight) {
+        this.weight = weight;
+    }
+
+    public int weight() {
+        return weight;
+    }
+}
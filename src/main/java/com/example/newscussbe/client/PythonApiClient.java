@@ -1,204 +1,222 @@
 package com.example.newscussbe.client;
 
+import com.example.newscussbe.client.PythonApiWireFormat.Endpoint;
+import com.example.newscussbe.client.rpc.DigestReply;
+import com.example.newscussbe.client.rpc.DigestRequest;
+import com.example.newscussbe.client.rpc.DiscussionReportRequest;
+import com.example.newscussbe.client.rpc.DiscussionStartRequest;
+import com.example.newscussbe.client.rpc.DiscussionTurnRequest;
+import com.example.newscussbe.client.rpc.ExtractRequest;
+import com.example.newscussbe.client.rpc.FeedbackReply;
+import com.example.newscussbe.client.rpc.MessageReply;
+import com.example.newscussbe.client.rpc.SummaryReply;
+import com.example.newscussbe.client.rpc.TopicRequest;
 import com.example.newscussbe.dto.KeywordSummaryResponseDto;
 import com.example.newscussbe.dto.Message;
 import com.example.newscussbe.dto.TopicResponseDto;
-import java.util.HashMap;
+import com.example.newscussbe.exception.PythonApiBusyException;
 import java.util.List;
 import java.util.Map;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpMethod;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResponseExtractor;
 import org.springframework.web.client.RestTemplate;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class PythonApiClient {
 
     private final RestTemplate restTemplate;
-
-    @Value("${python.api.base-url}")
-    private String pythonApiBaseUrl;
+    private final PythonApiWireFormat wireFormat;
+    private final PythonUpstreamPool upstreamPool;
+    private final PythonCallScheduler scheduler;
+
+    private final Endpoint<ExtractRequest, KeywordSummaryResponseDto> extractEndpoint;
+    private final Endpoint<TopicRequest, TopicResponseDto> topicEndpoint;
+    private final Endpoint<DiscussionStartRequest, MessageReply> startEndpoint;
+    private final Endpoint<DiscussionStartRequest, Void> startStreamEndpoint;
+    private final Endpoint<DiscussionTurnRequest, MessageReply> messageEndpoint;
+    private final Endpoint<DiscussionTurnRequest, Void> messageStreamEndpoint;
+    private final Endpoint<DiscussionReportRequest, SummaryReply> summaryEndpoint;
+    private final Endpoint<DiscussionReportRequest, FeedbackReply> feedbackEndpoint;
+    private final Endpoint<DiscussionReportRequest, Void> summaryStreamEndpoint;
+    private final Endpoint<DiscussionReportRequest, Void> feedbackStreamEndpoint;
+    private final Endpoint<DigestRequest, DigestReply> digestEndpoint;
+
+    public PythonApiClient(RestTemplate restTemplate, PythonApiWireFormat wireFormat,
+                           PythonUpstreamPool upstreamPool, PythonCallScheduler scheduler) {
+        this.restTemplate = restTemplate;
+        this.wireFormat = wireFormat;
+        this.upstreamPool = upstreamPool;
+        this.scheduler = scheduler;
+
+        // 대화 기록을 싣는 요청만 압축 대상
+        this.extractEndpoint = wireFormat.endpoint(
+                "/extract", ExtractRequest.class, KeywordSummaryResponseDto.class, false);
+        this.topicEndpoint = wireFormat.endpoint(
+                "/topic", TopicRequest.class, TopicResponseDto.class, false);
+        this.startEndpoint = wireFormat.endpoint(
+                "/discussion/start", DiscussionStartRequest.class, MessageReply.class, false);
+        this.startStreamEndpoint = wireFormat.streamingEndpoint(
+                "/discussion/start/stream", DiscussionStartRequest.class, false);
+        this.messageEndpoint = wireFormat.endpoint(
+                "/discussion/message", DiscussionTurnRequest.class, MessageReply.class, true);
+        this.messageStreamEndpoint = wireFormat.streamingEndpoint(
+                "/discussion/message/stream", DiscussionTurnRequest.class, true);
+        this.summaryEndpoint = wireFormat.endpoint(
+                "/discussion/summary", DiscussionReportRequest.class, SummaryReply.class, true);
+        this.feedbackEndpoint = wireFormat.endpoint(
+                "/discussion/feedback", DiscussionReportRequest.class, FeedbackReply.class, true);
+        this.summaryStreamEndpoint = wireFormat.streamingEndpoint(
+                "/discussion/summary/stream", DiscussionReportRequest.class, true);
+        this.feedbackStreamEndpoint = wireFormat.streamingEndpoint(
+                "/discussion/feedback/stream", DiscussionReportRequest.class, true);
+        this.digestEndpoint = wireFormat.endpoint(
+                "/discussion/digest", DigestRequest.class, DigestReply.class, true);
+    }
 
     /**
      * URL에서 키워드와 요약 추출
      */
     public KeywordSummaryResponseDto extractKeywordsAndSummary(String url) {
-        String endpoint = pythonApiBaseUrl + "/extract";
-
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("url", url);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
-
-        log.info("Calling Python API: {} with URL: {}", endpoint, url);
+        log.info("Calling Python API: {} with URL: {}", extractEndpoint.path(), url);
 
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
-
-            if (response != null) {
-                @SuppressWarnings("unchecked")
-                List<String> keywords = (List<String>) response.get("keywords");
-                String summary = (String) response.get("summary");
-
-                return KeywordSummaryResponseDto.builder()
-                        .keywords(keywords)
-                        .summary(summary)
-                        .build();
-            } else {
-                log.error("Empty response from Python API");
-                throw new RuntimeException("Failed to get response from Python API");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Python API", e);
-            throw new RuntimeException("Failed to call Python API", e);
-        }
+        return call(extractEndpoint, new ExtractRequest(url), CallPriority.INGEST, null);
     }
 
     /**
      * 토론 주제 생성
      */
     public TopicResponseDto generateTopic(String summary, List<String> keywords) {
-        String endpoint = pythonApiBaseUrl + "/topic";
-
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("summary", summary);
-        requestMap.put("keywords", keywords);
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+        log.info("Calling Python API: {} for topic generation", topicEndpoint.path());
 
-        log.info("Calling Python API: {} for topic generation", endpoint);
-
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
-
-            if (response != null) {
-                String topic = (String) response.get("topic");
-                String description = (String) response.get("description");
-
-                return TopicResponseDto.builder()
-                        .topic(topic)
-                        .description(description)
-                        .build();
-            } else {
-                log.error("Empty response from Python API");
-                throw new RuntimeException("Failed to get response from Python API");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Python API", e);
-            throw new RuntimeException("Failed to call Python API", e);
-        }
+        return call(topicEndpoint, new TopicRequest(summary, keywords), CallPriority.INGEST, null);
     }
 
     /**
      * 토론 시작
      */
     public String startDiscussion(String topic, String userPosition, String aiPosition, String difficulty) {
-        String endpoint = pythonApiBaseUrl + "/discussion/start";
+        log.info("Calling Python API: {} to start discussion", startEndpoint.path());
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("topic", topic);
-        requestMap.put("userPosition", userPosition);
-        requestMap.put("aiPosition", aiPosition);
-        requestMap.put("difficulty", difficulty);
+        return call(startEndpoint, new DiscussionStartRequest(topic, userPosition, aiPosition, difficulty),
+                CallPriority.START, null)
+                .message();
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+    /**
+     * 토론 시작 (스트리밍) - AI 첫 메시지를 responseExtractor에서 직접 읽음
+     */
+    public void streamDiscussionStart(String topic, String userPosition, String aiPosition, String difficulty,
+                                      ResponseExtractor<Void> responseExtractor) {
+        log.info("Calling Python API: {} to start discussion", startStreamEndpoint.path());
 
-        log.info("Calling Python API: {} to start discussion", endpoint);
+        exchange(startStreamEndpoint, new DiscussionStartRequest(topic, userPosition, aiPosition, difficulty),
+                responseExtractor, CallPriority.START, null);
+    }
 
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
+    /**
+     * AI 응답 생성 (같은 세션은 가능한 한 같은 Python 인스턴스로 전송)
+     */
+    public String getAiResponse(String sessionId, String topic, String userPosition, String aiPosition,
+                                String difficulty, String digest, List<Message> messages) {
+        log.info("Calling Python API: {} for AI response", messageEndpoint.path());
+
+        return call(messageEndpoint,
+                new DiscussionTurnRequest(topic, userPosition, aiPosition, difficulty, digest, messages),
+                CallPriority.TURN, sessionId)
+                .message();
+    }
 
-            if (response != null) {
-                return (String) response.get("message");
-            } else {
-                log.error("Empty response from Python API");
-                throw new RuntimeException("Failed to get response from Python API");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Python API", e);
-            throw new RuntimeException("Failed to call Python API", e);
-        }
+    /**
+     * AI 응답 생성 (스트리밍) - SSE 응답은 responseExtractor에서 직접 읽음
+     */
+    public void streamAiResponse(String sessionId, String topic, String userPosition, String aiPosition,
+                                 String difficulty, String digest, List<Message> messages,
+                                 ResponseExtractor<Void> responseExtractor) {
+        log.info("Calling Python API: {} for streaming AI response", messageStreamEndpoint.path());
+
+        exchange(messageStreamEndpoint,
+                new DiscussionTurnRequest(topic, userPosition, aiPosition, difficulty, digest, messages),
+                responseExtractor, CallPriority.INTERACTIVE_STREAM, sessionId);
     }
 
     /**
-     * AI 응답 생성
+     * 토론 요약 생성
      */
-    public String getAiResponse(String topic, String userPosition, String aiPosition,
-                                String difficulty, List<Message> messages) {
-        String endpoint = pythonApiBaseUrl + "/discussion/message";
+    public String generateSummary(String topic, String userPosition, String aiPosition, String digest,
+                                  List<Message> messages) {
+        log.info("Calling Python API: {} for discussion summary", summaryEndpoint.path());
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("topic", topic);
-        requestMap.put("userPosition", userPosition);
-        requestMap.put("aiPosition", aiPosition);
-        requestMap.put("difficulty", difficulty);
-        requestMap.put("messages", messages);
+        return call(summaryEndpoint, new DiscussionReportRequest(topic, userPosition, aiPosition, digest, messages),
+                CallPriority.REPORT, null)
+                .summary();
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+    /**
+     * 토론 피드백 생성 (새로 추가)
+     */
+    public Map<String, Object> generateFeedback(String topic, String userPosition, String aiPosition, String digest,
+                                                List<Message> messages) {
+        log.info("Calling Python API: {} for discussion feedback", feedbackEndpoint.path());
 
-        log.info("Calling Python API: {} for AI response", endpoint);
+        return call(feedbackEndpoint, new DiscussionReportRequest(topic, userPosition, aiPosition, digest, messages),
+                CallPriority.REPORT, null)
+                .feedback();
+    }
 
-        try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
+    /**
+     * 토론 요약 생성 (스트리밍)
+     */
+    public void streamSummary(String topic, String userPosition, String aiPosition, String digest,
+                              List<Message> messages, ResponseExtractor<Void> responseExtractor) {
+        log.info("Calling Python API: {} for streaming discussion summary", summaryStreamEndpoint.path());
 
-            if (response != null) {
-                return (String) response.get("message");
-            } else {
-                log.error("Empty response from Python API");
-                throw new RuntimeException("Failed to get response from Python API");
-            }
-        } catch (Exception e) {
-            log.error("Error calling Python API", e);
-            throw new RuntimeException("Failed to call Python API", e);
-        }
+        exchange(summaryStreamEndpoint, new DiscussionReportRequest(topic, userPosition, aiPosition, digest, messages),
+                responseExtractor, CallPriority.REPORT, null);
     }
 
     /**
-     * 토론 요약 생성
+     * 토론 피드백 생성 (스트리밍) - 최종 피드백은 end 이벤트의 feedback 필드로 전달됨
      */
-    public String generateSummary(String topic, String userPosition, String aiPosition, List<Message> messages) {
-        String endpoint = pythonApiBaseUrl + "/discussion/summary";
+    public void streamFeedback(String topic, String userPosition, String aiPosition, String digest,
+                               List<Message> messages, ResponseExtractor<Void> responseExtractor) {
+        log.info("Calling Python API: {} for streaming discussion feedback", feedbackStreamEndpoint.path());
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("topic", topic);
-        requestMap.put("userPosition", userPosition);
-        requestMap.put("aiPosition", aiPosition);
-        requestMap.put("messages", messages);
+        exchange(feedbackStreamEndpoint, new DiscussionReportRequest(topic, userPosition, aiPosition, digest, messages),
+                responseExtractor, CallPriority.REPORT, null);
+    }
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+    /**
+     * 토론 요약본 갱신 (이전 요약본 + 새 메시지 → 새 요약본)
+     */
+    public String updateDigest(String sessionId, String topic, String userPosition, String aiPosition,
+                               String digest, List<Message> messages) {
+        log.info("Calling Python API: {} for discussion digest", digestEndpoint.path());
 
-        log.info("Calling Python API: {} for discussion summary", endpoint);
+        return call(digestEndpoint, new DigestRequest(topic, userPosition, aiPosition, digest, messages),
+                CallPriority.BACKGROUND, sessionId)
+                .digest();
+    }
 
+    /**
+     * 요청 전송 후 응답 역직렬화 (모든 엔드포인트 공통 에러 처리)
+     */
+    private <Q, R> R call(Endpoint<Q, R> endpoint, Q payload, CallPriority priority, String affinityKey) {
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
+            R response = exchange(endpoint, payload,
+                    httpResponse -> wireFormat.readResponse(httpResponse, endpoint), priority, affinityKey);
 
-            if (response != null) {
-                return (String) response.get("summary");
-            } else {
+            if (response == null) {
                 log.error("Empty response from Python API");
                 throw new RuntimeException("Failed to get response from Python API");
             }
+            return response;
+        } catch (PythonApiBusyException e) {
+            // 혼잡해서 보내지 못한 요청은 503으로 응답하도록 그대로 전달
+            throw e;
         } catch (Exception e) {
             log.error("Error calling Python API", e);
             throw new RuntimeException("Failed to call Python API", e);
@@ -206,38 +224,57 @@ public class PythonApiClient {
     }
 
     /**
-     * 토론 피드백 생성 (새로 추가)
+     * 우선순위에 따라 차례를 기다린 뒤 요청 전송
      */
-    public Map<String, Object> generateFeedback(String topic, String userPosition, String aiPosition, List<Message> messages) {
-        String endpoint = pythonApiBaseUrl + "/discussion/feedback";
+    private <Q, T> T exchange(Endpoint<Q, ?> endpoint, Q payload, ResponseExtractor<T> responseExtractor,
+                              CallPriority priority, String affinityKey) {
+        scheduler.acquire(priority);
+        try {
+            return exchange(endpoint, payload, responseExtractor, affinityKey);
+        } finally {
+            scheduler.release();
+        }
+    }
 
-        Map<String, Object> requestMap = new HashMap<>();
-        requestMap.put("topic", topic);
-        requestMap.put("userPosition", userPosition);
-        requestMap.put("aiPosition", aiPosition);
-        requestMap.put("messages", messages);
+    /**
+     * 부하 분산된 Python 인스턴스로 요청 전송
+     */
+    private <Q, T> T exchange(Endpoint<Q, ?> endpoint, Q payload, ResponseExtractor<T> responseExtractor,
+                              String affinityKey) {
+        PythonUpstreamPool.Upstream upstream = upstreamPool.acquire(affinityKey);
+        long startNanos = System.nanoTime();
+        boolean healthy = false;
 
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+        try {
+            T result = exchange(upstream.baseUrl() + endpoint.path(), endpoint, payload, responseExtractor);
+            healthy = true;
+            return result;
+        } catch (HttpClientErrorException e) {
+            // 4xx는 요청 문제이므로 인스턴스 상태와 무관
+            healthy = true;
+            throw e;
+        } finally {
+            upstreamPool.release(upstream, startNanos, healthy, !endpoint.eventStream());
+        }
+    }
 
-        log.info("Calling Python API: {} for discussion feedback", endpoint);
+    private <Q, T> T exchange(String url, Endpoint<Q, ?> endpoint, Q payload, ResponseExtractor<T> responseExtractor) {
+        boolean binary = wireFormat.useBinary();
+        boolean compressed = wireFormat.useCompression(endpoint);
 
         try {
-            @SuppressWarnings("unchecked")
-            Map<String, Object> response = restTemplate.postForObject(endpoint, request, Map.class);
-
-            if (response != null) {
-                @SuppressWarnings("unchecked")
-                Map<String, Object> feedback = (Map<String, Object>) response.get("feedback");
-                return feedback;
-            } else {
-                log.error("Empty response from Python API");
-                throw new RuntimeException("Failed to get response from Python API");
+            return restTemplate.execute(url, HttpMethod.POST,
+                    request -> wireFormat.writeRequest(request, endpoint, payload, binary, compressed),
+                    responseExtractor);
+        } catch (HttpClientErrorException.UnsupportedMediaType e) {
+            if (!binary && !compressed) {
+                throw e;
             }
-        } catch (Exception e) {
-            log.error("Error calling Python API", e);
-            throw new RuntimeException("Failed to call Python API", e);
+            // 압축/바이너리를 지원하지 않는 Python 서버: 일반 JSON으로 재시도
+            wireFormat.fallBackToPlain(binary, compressed);
+            return restTemplate.execute(url, HttpMethod.POST,
+                    request -> wireFormat.writeRequest(request, endpoint, payload, false, false),
+                    responseExtractor);
         }
     }
-}
\ No newline at end of file
+}
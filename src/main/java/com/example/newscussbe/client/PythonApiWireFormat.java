@@ -0,0 +1,164 @@
+package com.example.newscussbe.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequest;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+/**
+ * Python API 요청/응답의 전송 형식
+ * - 엔드포인트별로 미리 만들어 둔 ObjectWriter/ObjectReader로 직렬화
+ * - 요청 본문은 중간 버퍼 없이 연결의 출력 스트림에 바로 기록
+ * - 대화 기록을 싣는 요청의 gzip 압축, CBOR 바이너리 인코딩
+ *   (Python 측이 415를 반환하면 일반 JSON으로 자동 전환)
+ */
+@Slf4j
+@Component
+public class PythonApiWireFormat {
+
+    private static final String GZIP = "gzip";
+
+    private final ObjectMapper jsonMapper;
+    private final ObjectMapper cborMapper;
+
+    // Python 측에서 지원하지 않는 것으로 확인되면 false로 전환
+    private final AtomicBoolean compressionSupported = new AtomicBoolean(true);
+    private final AtomicBoolean binarySupported = new AtomicBoolean(true);
+
+    @Value("${python.api.wire.compression.enabled:false}")
+    private boolean compressionEnabled;
+
+    @Value("${python.api.wire.binary.enabled:false}")
+    private boolean binaryEnabled;
+
+    public PythonApiWireFormat(ObjectMapper objectMapper) {
+        this.jsonMapper = objectMapper;
+        this.cborMapper = CBORMapper.builder()
+                .addModule(new JavaTimeModule())
+                .build();
+    }
+
+    /**
+     * 엔드포인트 정의 (요청/응답 타입별 Writer/Reader를 미리 생성)
+     */
+    <Q, R> Endpoint<Q, R> endpoint(String path, Class<Q> requestType, Class<R> responseType, boolean compressible) {
+        return new Endpoint<>(path, compressible, false,
+                writerFor(jsonMapper, requestType), writerFor(cborMapper, requestType),
+                readerFor(jsonMapper, responseType), readerFor(cborMapper, responseType));
+    }
+
+    /**
+     * SSE로 응답하는 엔드포인트 정의 (응답은 호출 측에서 직접 읽음)
+     */
+    <Q> Endpoint<Q, Void> streamingEndpoint(String path, Class<Q> requestType, boolean compressible) {
+        return new Endpoint<>(path, compressible, true,
+                writerFor(jsonMapper, requestType), writerFor(cborMapper, requestType), null, null);
+    }
+
+    private static ObjectWriter writerFor(ObjectMapper mapper, Class<?> type) {
+        return mapper.writerFor(type).without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static ObjectReader readerFor(ObjectMapper mapper, Class<?> type) {
+        return mapper.readerFor(type).without(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+    }
+
+    boolean useBinary() {
+        return binaryEnabled && binarySupported.get();
+    }
+
+    boolean useCompression(Endpoint<?, ?> endpoint) {
+        return endpoint.compressible() && compressionEnabled && compressionSupported.get();
+    }
+
+    /**
+     * Python 측이 415를 반환한 경우 해당 기능을 끄고 일반 JSON으로 전환
+     */
+    void fallBackToPlain(boolean binary, boolean compressed) {
+        if (compressed && compressionSupported.compareAndSet(true, false)) {
+            log.warn("Python API rejected gzip request body, falling back to uncompressed requests");
+        }
+        if (binary && binarySupported.compareAndSet(true, false)) {
+            log.warn("Python API rejected CBOR request body, falling back to JSON");
+        }
+    }
+
+    /**
+     * 요청 헤더 설정 후 본문을 연결의 출력 스트림에 바로 직렬화
+     */
+    <Q> void writeRequest(ClientHttpRequest request, Endpoint<Q, ?> endpoint, Q payload,
+                          boolean binary, boolean compressed) throws IOException {
+        HttpHeaders headers = request.getHeaders();
+        headers.setContentType(binary ? MediaType.APPLICATION_CBOR : MediaType.APPLICATION_JSON);
+        if (endpoint.eventStream()) {
+            // SSE 응답은 청크 단위로 바로 읽어야 하므로 압축을 요청하지 않음
+            headers.setAccept(List.of(MediaType.TEXT_EVENT_STREAM));
+        } else {
+            headers.setAccept(binary
+                    ? List.of(MediaType.APPLICATION_CBOR, MediaType.APPLICATION_JSON)
+                    : List.of(MediaType.APPLICATION_JSON));
+            if (compressionEnabled) {
+                headers.set(HttpHeaders.ACCEPT_ENCODING, GZIP);
+            }
+        }
+        if (compressed) {
+            headers.set(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+
+        ObjectWriter writer = binary ? endpoint.cborWriter() : endpoint.jsonWriter();
+        if (request instanceof StreamingHttpOutputMessage streaming) {
+            streaming.setBody(out -> writeBody(out, writer, payload, compressed));
+        } else {
+            writeBody(request.getBody(), writer, payload, compressed);
+        }
+    }
+
+    private static void writeBody(OutputStream out, ObjectWriter writer, Object payload, boolean compressed)
+            throws IOException {
+        if (compressed) {
+            GZIPOutputStream gzip = new GZIPOutputStream(out, 8192);
+            writer.writeValue(gzip, payload);
+            gzip.finish();
+        } else {
+            writer.writeValue(out, payload);
+        }
+    }
+
+    /**
+     * 응답 본문을 Content-Type(JSON/CBOR)과 Content-Encoding에 맞게 역직렬화
+     */
+    <R> R readResponse(ClientHttpResponse response, Endpoint<?, R> endpoint) throws IOException {
+        HttpHeaders headers = response.getHeaders();
+        InputStream body = response.getBody();
+        if (GZIP.equalsIgnoreCase(headers.getFirst(HttpHeaders.CONTENT_ENCODING))) {
+            body = new GZIPInputStream(body);
+        }
+
+        boolean binary = MediaType.APPLICATION_CBOR.isCompatibleWith(headers.getContentType());
+        ObjectReader reader = binary ? endpoint.cborReader() : endpoint.jsonReader();
+        return reader.readValue(body);
+    }
+
+    record Endpoint<Q, R>(String path, boolean compressible, boolean eventStream,
+                          ObjectWriter jsonWriter, ObjectWriter cborWriter,
+                          ObjectReader jsonReader, ObjectReader cborReader) {
+    }
+}
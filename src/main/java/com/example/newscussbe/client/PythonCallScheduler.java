@@ -0,0 +1,236 @@
+package com.example.newscussbe.client;
+
+import com.example.newscussbe.exception.PythonApiBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import java.util.ArrayDeque;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+/**
+ * Python API 동시 호출 수 제한 및 우선순위 스케줄링
+ * - 한도 안에서는 바로 호출하고, 한도를 넘으면 우선순위별 대기열에서 순서를 기다림
+ * - 대기열 간에는 가중치 공정 큐잉(WFQ): 가중치에 반비례하는 가상 종료 시각이 가장 이른 요청부터 처리
+ * - aging 시간 이상 기다린 요청은 우선순위와 관계없이 가장 오래 기다린 것부터 처리 (기아 방지)
+ * - 우선순위별 최대 대기 시간을 넘기면 대기열에서 빠지고 PythonApiBusyException (요청 스레드를 무한정 붙잡지 않음)
+ * 스트리밍 호출도 같은 한도를 씀: 스트림 하나가 끝날 때까지 Python 측 작업자 하나를 점유하므로,
+ * 따로 세면 Python 측이 감당할 수 있는 동시 처리 수를 넘게 됨 (스트림이 한도를 채우면 짧은 호출은 503으로 빠르게 실패)
+ */
+@Slf4j
+@Component
+public class PythonCallScheduler {
+
+    private final int maxConcurrency;
+    private final long agingNanos;
+    private final LongSupplier clock;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<CallPriority, ArrayDeque<Waiter>> queues = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Double> lastFinishTags = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Timer> waitTimers = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Counter> timeoutCounters = new EnumMap<>(CallPriority.class);
+    private final Map<CallPriority, Long> maxWaitNanos;
+    private double virtualTime;
+    private int inFlight;
+
+    @Autowired
+    public PythonCallScheduler(MeterRegistry meterRegistry, Environment environment,
+                               @Value("${python.api.scheduler.max-concurrency:64}") int maxConcurrency,
+                               @Value("${python.api.scheduler.aging-millis:5000}") long agingMillis) {
+        this(meterRegistry, maxConcurrency, agingMillis, maxQueueWaitMillis(environment), System::nanoTime);
+    }
+
+    PythonCallScheduler(MeterRegistry meterRegistry, int maxConcurrency, long agingMillis,
+                        Map<CallPriority, Long> maxQueueWaitMillis, LongSupplier clock) {
+        this.maxConcurrency = maxConcurrency;
+        this.agingNanos = TimeUnit.MILLISECONDS.toNanos(agingMillis);
+        this.clock = clock;
+        this.maxWaitNanos = new EnumMap<>(CallPriority.class);
+        maxQueueWaitMillis.forEach((priority, millis) ->
+                maxWaitNanos.put(priority, TimeUnit.MILLISECONDS.toNanos(millis)));
+
+        for (CallPriority priority : CallPriority.values()) {
+            queues.put(priority, new ArrayDeque<>());
+            lastFinishTags.put(priority, 0.0);
+            waitTimers.put(priority, meterRegistry.timer("newscuss.upstream.queue.wait",
+                    "priority", priority.name().toLowerCase()));
+            timeoutCounters.put(priority, meterRegistry.counter("newscuss.upstream.queue.timeouts",
+                    "priority", priority.name().toLowerCase()));
+            meterRegistry.gauge("newscuss.upstream.queue.depth",
+                    Tags.of("priority", priority.name().toLowerCase()),
+                    this, scheduler -> scheduler.queueDepth(priority));
+        }
+        meterRegistry.gauge("newscuss.upstream.in-flight", this, PythonCallScheduler::inFlight);
+
+        log.info("Python API scheduler: max concurrency {}, aging {} ms, max queue wait {} ms",
+                maxConcurrency > 0 ? maxConcurrency : "unlimited", agingMillis, maxQueueWaitMillis);
+    }
+
+    // python.api.scheduler.max-queue-wait-millis.<우선순위> (예: interactive-stream, turn)
+    private static Map<CallPriority, Long> maxQueueWaitMillis(Environment environment) {
+        Map<CallPriority, Long> maxQueueWaitMillis = new EnumMap<>(CallPriority.class);
+        for (CallPriority priority : CallPriority.values()) {
+            String key = "python.api.scheduler.max-queue-wait-millis."
+                    + priority.name().toLowerCase().replace('_', '-');
+            maxQueueWaitMillis.put(priority, environment.getProperty(key, Long.class, 10000L));
+        }
+        return maxQueueWaitMillis;
+    }
+
+    /**
+     * 호출 허가를 받을 때까지 대기 (반드시 release 호출 필요)
+     *
+     * @throws PythonApiBusyException 우선순위별 최대 대기 시간 안에 허가를 받지 못한 경우
+     */
+    public void acquire(CallPriority priority) {
+        if (maxConcurrency <= 0) {
+            return;
+        }
+
+        long enqueuedAt = clock.getAsLong();
+        lock.lock();
+        try {
+            if (inFlight < maxConcurrency && isEmpty()) {
+                inFlight++;
+                waitTimers.get(priority).record(0, TimeUnit.NANOSECONDS);
+                return;
+            }
+
+            double finishTag = Math.max(virtualTime, lastFinishTags.get(priority)) + 1.0 / priority.weight();
+            lastFinishTags.put(priority, finishTag);
+            Waiter waiter = new Waiter(priority, finishTag, enqueuedAt, lock.newCondition());
+            queues.get(priority).addLast(waiter);
+
+            try {
+                long remainingNanos = maxWaitNanos.get(priority);
+                while (!waiter.granted) {
+                    if (remainingNanos <= 0) {
+                        queues.get(priority).remove(waiter);
+                        timeoutCounters.get(priority).increment();
+                        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(maxWaitNanos.get(priority));
+                        throw new PythonApiBusyException("No Python API capacity for " + priority
+                                + " call within " + waitedMillis + " ms", Math.max(1, waitedMillis / 1000));
+                    }
+                    remainingNanos = waiter.condition.awaitNanos(remainingNanos);
+                }
+            } catch (InterruptedException e) {
+                if (waiter.granted) {
+                    releaseLocked();
+                } else {
+                    queues.get(priority).remove(waiter);
+                }
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for Python API capacity", e);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        waitTimers.get(priority).record(clock.getAsLong() - enqueuedAt, TimeUnit.NANOSECONDS);
+    }
+
+    public void release() {
+        if (maxConcurrency <= 0) {
+            return;
+        }
+
+        lock.lock();
+        try {
+            releaseLocked();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int inFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int queueDepth(CallPriority priority) {
+        lock.lock();
+        try {
+            return queues.get(priority).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseLocked() {
+        inFlight--;
+        long now = clock.getAsLong();
+
+        while (inFlight < maxConcurrency) {
+            Waiter next = nextWaiter(now);
+            if (next == null) {
+                return;
+            }
+            queues.get(next.priority).removeFirst();
+            virtualTime = Math.max(virtualTime, next.finishTag);
+            inFlight++;
+            next.granted = true;
+            next.condition.signal();
+        }
+    }
+
+    // 대기열마다 맨 앞 요청만 비교 (같은 우선순위 안에서는 종료 시각이 들어온 순서대로 증가)
+    private Waiter nextWaiter(long now) {
+        Waiter earliestFinish = null;
+        Waiter oldestAged = null;
+
+        for (ArrayDeque<Waiter> queue : queues.values()) {
+            Waiter head = queue.peekFirst();
+            if (head == null) {
+                continue;
+            }
+            if (now - head.enqueuedAt >= agingNanos
+                    && (oldestAged == null || head.enqueuedAt - oldestAged.enqueuedAt < 0)) {
+                oldestAged = head;
+            }
+            if (earliestFinish == null || head.finishTag < earliestFinish.finishTag) {
+                earliestFinish = head;
+            }
+        }
+        return oldestAged != null ? oldestAged : earliestFinish;
+    }
+
+    private boolean isEmpty() {
+        for (ArrayDeque<Waiter> queue : queues.values()) {
+            if (!queue.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class Waiter {
+
+        private final CallPriority priority;
+        private final double finishTag;
+        private final long enqueuedAt;
+        private final Condition condition;
+        private boolean granted;
+
+        Waiter(CallPriority priority, double finishTag, long enqueuedAt, Condition condition) {
+            this.priority = priority;
+            this.finishTag = finishTag;
+            this.enqueuedAt = enqueuedAt;
+            this.condition = condition;
+        }
+    }
+}
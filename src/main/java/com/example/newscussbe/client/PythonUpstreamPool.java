@@ -0,0 +1,212 @@
+package com.example.newscussbe.client;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 Python API 인스턴스 간 부하 분산
+ * - 진행 중인 요청 수 x 응답 시간 EWMA가 가장 작은 인스턴스 선택
+ * - 연속 실패 시 일정 시간 제외 후, 재투입된 인스턴스는 가중치를 서서히 올림
+ * - 같은 토론(affinity key)은 가능한 한 같은 인스턴스로 보내 프롬프트 캐시를 활용
+ */
+@Slf4j
+@Component
+public class PythonUpstreamPool {
+
+    // EWMA 가중치 (최근 응답 시간 반영 비율)
+    private static final double EWMA_ALPHA = 0.3;
+    // 재투입 직후의 최소 가중치
+    private static final double MIN_WEIGHT = 0.1;
+    // 제외 시간 최대 배수 (연속 제외 시 2배씩 증가)
+    private static final int MAX_EJECTION_BACKOFF = 8;
+
+    private final List<Upstream> upstreams;
+    private final int failureThreshold;
+    private final long ejectNanos;
+    private final long rampUpNanos;
+    private final int affinitySlack;
+    private final LongSupplier clock;
+
+    @Autowired
+    public PythonUpstreamPool(@Value("${python.api.base-urls:}") List<String> baseUrls,
+                              @Value("${python.api.base-url}") String defaultBaseUrl,
+                              @Value("${python.api.balancer.failure-threshold:3}") int failureThreshold,
+                              @Value("${python.api.balancer.eject-millis:10000}") long ejectMillis,
+                              @Value("${python.api.balancer.ramp-up-millis:30000}") long rampUpMillis,
+                              @Value("${python.api.balancer.affinity-slack:2}") int affinitySlack) {
+        this(baseUrls, defaultBaseUrl, failureThreshold, ejectMillis, rampUpMillis, affinitySlack, System::nanoTime);
+    }
+
+    PythonUpstreamPool(List<String> baseUrls, String defaultBaseUrl, int failureThreshold, long ejectMillis,
+                       long rampUpMillis, int affinitySlack, LongSupplier clock) {
+        List<Upstream> configured = new ArrayList<>();
+        for (String baseUrl : baseUrls) {
+            if (baseUrl != null && !baseUrl.isBlank()) {
+                configured.add(new Upstream(baseUrl.trim()));
+            }
+        }
+        if (configured.isEmpty()) {
+            configured.add(new Upstream(defaultBaseUrl));
+        }
+
+        this.upstreams = List.copyOf(configured);
+        this.failureThreshold = failureThreshold;
+        this.ejectNanos = TimeUnit.MILLISECONDS.toNanos(ejectMillis);
+        this.rampUpNanos = TimeUnit.MILLISECONDS.toNanos(rampUpMillis);
+        this.affinitySlack = affinitySlack;
+        this.clock = clock;
+
+        log.info("Python API upstreams: {}", upstreams.stream().map(Upstream::baseUrl).toList());
+    }
+
+    public List<Upstream> upstreams() {
+        return upstreams;
+    }
+
+    /**
+     * 요청을 보낼 인스턴스 선택 (반드시 release 호출 필요)
+     *
+     * @param affinityKey 같은 인스턴스로 보내고 싶은 요청의 키 (없으면 null)
+     */
+    public Upstream acquire(String affinityKey) {
+        long now = clock.getAsLong();
+
+        List<Upstream> candidates = upstreams.stream()
+                .filter(upstream -> upstream.isAvailable(now))
+                .toList();
+        if (candidates.isEmpty()) {
+            // 모두 제외된 경우: 가장 먼저 복귀할 인스턴스로 보냄
+            candidates = List.of(upstreams.stream()
+                    .min(Comparator.comparingLong(upstream -> upstream.ejectedUntil))
+                    .orElseThrow());
+        }
+
+        Upstream selected = candidates.stream()
+                .min(Comparator.comparingDouble(upstream -> upstream.cost(now)))
+                .orElseThrow();
+
+        if (affinityKey != null) {
+            Upstream preferred = rendezvous(candidates, affinityKey);
+            // 선호 인스턴스가 크게 밀려 있지 않으면 그대로 사용
+            if (preferred.outstanding.get() <= selected.outstanding.get() + affinitySlack) {
+                selected = preferred;
+            }
+        }
+
+        selected.outstanding.incrementAndGet();
+        return selected;
+    }
+
+    /**
+     * 요청 완료 보고
+     *
+     * @param startNanos    acquire 직후 System.nanoTime() 값
+     * @param healthy       인스턴스가 정상 응답했는지 (4xx는 정상으로 취급)
+     * @param recordLatency 응답 시간을 EWMA에 반영할지 (스트리밍은 길이가 제각각이므로 제외)
+     */
+    public void release(Upstream upstream, long startNanos, boolean healthy, boolean recordLatency) {
+        upstream.outstanding.decrementAndGet();
+        long now = clock.getAsLong();
+
+        if (healthy) {
+            if (recordLatency) {
+                upstream.recordLatency((now - startNanos) / 1_000_000.0);
+            }
+            upstream.consecutiveFailures.set(0);
+            upstream.ejections.set(0);
+            return;
+        }
+
+        int failures = upstream.consecutiveFailures.incrementAndGet();
+        if (failures >= failureThreshold && upstream.isAvailable(now)) {
+            int ejections = upstream.ejections.incrementAndGet();
+            long backoff = Math.min(1L << Math.min(ejections - 1, 30), MAX_EJECTION_BACKOFF);
+            upstream.ejectedUntil = now + ejectNanos * backoff;
+            upstream.consecutiveFailures.set(0);
+            log.warn("Ejecting Python API upstream {} for {} ms after {} consecutive failures",
+                    upstream.baseUrl(), TimeUnit.NANOSECONDS.toMillis(ejectNanos * backoff), failures);
+        }
+    }
+
+    private static Upstream rendezvous(List<Upstream> candidates, String affinityKey) {
+        Upstream best = null;
+        long bestScore = Long.MIN_VALUE;
+        for (Upstream upstream : candidates) {
+            long score = mix(affinityKey.hashCode() * 31L + upstream.baseUrl().hashCode());
+            if (best == null || score > bestScore) {
+                best = upstream;
+                bestScore = score;
+            }
+        }
+        return best;
+    }
+
+    // 해시 값을 고르게 섞기 위한 SplitMix64 finalizer
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+
+    /**
+     * Python API 인스턴스 하나의 상태
+     */
+    public class Upstream {
+
+        private final String baseUrl;
+        private final AtomicInteger outstanding = new AtomicInteger();
+        private final AtomicInteger consecutiveFailures = new AtomicInteger();
+        private final AtomicInteger ejections = new AtomicInteger();
+        private volatile double ewmaMillis;
+        private volatile long ejectedUntil = Long.MIN_VALUE;
+
+        Upstream(String baseUrl) {
+            this.baseUrl = baseUrl;
+        }
+
+        public String baseUrl() {
+            return baseUrl;
+        }
+
+        public int outstanding() {
+            return outstanding.get();
+        }
+
+        public double ewmaMillis() {
+            return ewmaMillis;
+        }
+
+        boolean isAvailable(long now) {
+            return ejectedUntil == Long.MIN_VALUE || now - ejectedUntil >= 0;
+        }
+
+        // 재투입 후 rampUp 동안 가중치를 MIN_WEIGHT에서 1까지 선형 증가
+        double weight(long now) {
+            if (ejectedUntil == Long.MIN_VALUE || rampUpNanos <= 0) {
+                return 1.0;
+            }
+            long sinceReadmission = now - ejectedUntil;
+            if (sinceReadmission >= rampUpNanos) {
+                return 1.0;
+            }
+            return Math.max(MIN_WEIGHT, (double) sinceReadmission / rampUpNanos);
+        }
+
+        double cost(long now) {
+            // 응답 시간 기록이 없는 인스턴스는 1ms로 간주하여 먼저 시도
+            return (outstanding.get() + 1) * Math.max(ewmaMillis, 1.0) / weight(now);
+        }
+
+        synchronized void recordLatency(double millis) {
+            ewmaMillis = ewmaMillis == 0 ? millis : EWMA_ALPHA * millis + (1 - EWMA_ALPHA) * ewmaMillis;
+        }
+    }
+}
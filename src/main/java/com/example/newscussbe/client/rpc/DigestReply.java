@@ -0,0 +1,7 @@
+package com.example.newscussbe.client.rpc;
+
+/**
+ * /discussion/digest 응답 본문
+ */
+public record DigestReply(String digest) {
+}
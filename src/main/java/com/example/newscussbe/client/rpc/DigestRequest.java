@@ -0,0 +1,14 @@
+package com.example.newscussbe.client.rpc;
+
+import com.example.newscussbe.dto.Message;
+import java.util.List;
+
+/**
+ * POST /discussion/digest 요청 본문
+ *
+ * @param digest   지금까지의 요약본 (처음이면 null)
+ * @param messages 요약본에 새로 반영할 메시지
+ */
+public record DigestRequest(String topic, String userPosition, String aiPosition, String digest,
+                            List<Message> messages) {
+}
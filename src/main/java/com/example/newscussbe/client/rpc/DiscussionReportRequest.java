@@ -0,0 +1,13 @@
+package com.example.newscussbe.client.rpc;
+
+import com.example.newscussbe.dto.Message;
+import java.util.List;
+
+/**
+ * POST /discussion/summary, /discussion/feedback 요청 본문
+ *
+ * @param digest 이전 대화 요약본 (있으면 messages는 요약본 이후의 메시지만 포함, 없으면 null)
+ */
+public record DiscussionReportRequest(String topic, String userPosition, String aiPosition, String digest,
+                                      List<Message> messages) {
+}
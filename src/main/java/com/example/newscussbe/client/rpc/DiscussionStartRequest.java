@@ -0,0 +1,7 @@
+package com.example.newscussbe.client.rpc;
+
+/**
+ * POST /discussion/start 요청 본문
+ */
+public record DiscussionStartRequest(String topic, String userPosition, String aiPosition, String difficulty) {
+}
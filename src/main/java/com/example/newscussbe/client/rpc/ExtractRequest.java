@@ -0,0 +1,7 @@
+package com.example.newscussbe.client.rpc;
+
+/**
+ * POST /extract 요청 본문
+ */
+public record ExtractRequest(String url) {
+}
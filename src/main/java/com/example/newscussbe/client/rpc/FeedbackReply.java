@@ -0,0 +1,9 @@
+package com.example.newscussbe.client.rpc;
+
+import java.util.Map;
+
+/**
+ * /discussion/feedback 응답 본문
+ */
+public record FeedbackReply(Map<String, Object> feedback) {
+}
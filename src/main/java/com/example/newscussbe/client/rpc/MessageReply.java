@@ -0,0 +1,7 @@
+package com.example.newscussbe.client.rpc;
+
+/**
+ * /discussion/start, /discussion/message 응답 본문
+ */
+public record MessageReply(String message) {
+}
@@ -0,0 +1,7 @@
+package com.example.newscussbe.client.rpc;
+
+/**
+ * /discussion/summary 응답 본문
+ */
+public record SummaryReply(String summary) {
+}
@@ -0,0 +1,9 @@
+package com.example.newscussbe.client.rpc;
+
+import java.util.List;
+
+/**
+ * POST /topic 요청 본문
+ */
+public record TopicRequest(String summary, List<String> keywords) {
+}
@@ -7,6 +7,7 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -21,6 +22,21 @@ public class AppConfig {
     @Value("${rest.timeout.read:60000}")
     private int readTimeout;
 
+    @Value("${newscuss.executor.llm.size:32}")
+    private int llmExecutorSize;
+
+    @Value("${newscuss.executor.llm.queue-capacity:64}")
+    private int llmExecutorQueueCapacity;
+
+    @Value("${newscuss.executor.stream.size:256}")
+    private int streamExecutorSize;
+
+    @Value("${newscuss.executor.fetch.size:4}")
+    private int fetchExecutorSize;
+
+    @Value("${newscuss.executor.fetch.queue-capacity:16}")
+    private int fetchExecutorQueueCapacity;
+
     @Bean
     public RestTemplate restTemplate() {
         SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
@@ -29,11 +45,61 @@ public class AppConfig {
 
         RestTemplate restTemplate = new RestTemplate(factory);
 
+        // 인터셉터를 추가하면 요청 본문이 버퍼링되므로 주의 (PythonApiWireFormat 참고)
         // 추가적인 에러 핸들링이나 인터셉터를 여기에 설정할 수 있습니다.
 
         return restTemplate;
     }
 
+    /**
+     * Python API 호출을 백그라운드로 실행하기 위한 전용 스레드 풀
+     * (블로킹 I/O이므로 공용 ForkJoinPool 대신 사용)
+     * 큐가 찬 뒤에야 스레드를 늘리는 ThreadPoolExecutor 특성상 core = max로 두고 큐는 짧게 유지
+     * 큐까지 차면 TaskRejectedException (호출한 쪽에서 처리)
+     */
+    @Bean(name = "llmTaskExecutor")
+    public ThreadPoolTaskExecutor llmTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(llmExecutorSize);
+        executor.setMaxPoolSize(llmExecutorSize);
+        executor.setQueueCapacity(llmExecutorQueueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("llm-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * Python API 스트리밍 응답을 끝까지 중계하는 스레드 풀 (스트림 하나가 스레드 하나를 오래 점유)
+     * 짧은 작업과 섞이지 않도록 분리하고, 대기열 없이 size까지만 동시에 실행
+     */
+    @Bean(name = "streamTaskExecutor")
+    public ThreadPoolTaskExecutor streamTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(streamExecutorSize);
+        executor.setMaxPoolSize(streamExecutorSize);
+        executor.setQueueCapacity(0);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("stream-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * 키워드 계산용 기사 페이지를 직접 받는 스레드 풀 (느리거나 악의적인 기사 서버가 LLM 호출 스레드를 점유하지 않도록 분리)
+     * 큐까지 차면 TaskRejectedException (로컬 키워드 없이 진행)
+     */
+    @Bean(name = "articleFetchExecutor")
+    public ThreadPoolTaskExecutor articleFetchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fetchExecutorSize);
+        executor.setMaxPoolSize(fetchExecutorSize);
+        executor.setQueueCapacity(fetchExecutorQueueCapacity);
+        executor.setAllowCoreThreadTimeOut(true);
+        executor.setThreadNamePrefix("fetch-");
+        return executor;
+    }
+
     @Bean
     public ObjectMapper objectMapper() {
         ObjectMapper objectMapper = new ObjectMapper();
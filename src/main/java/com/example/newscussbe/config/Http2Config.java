@@ -0,0 +1,59 @@
+package com.example.newscussbe.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.coyote.UpgradeProtocol;
+import org.apache.coyote.http2.Http2Protocol;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * HTTP/2 설정 (TLS 사용 시 h2, 평문 연결에서는 내부용 h2c)
+ * 하나의 연결에서 여러 SSE 스트림을 동시에 처리하도록 스트림 수와 흐름 제어 창 크기를 조정
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "server.http2.enabled", havingValue = "true")
+public class Http2Config {
+
+    @Value("${newscuss.http2.max-concurrent-streams:200}")
+    private long maxConcurrentStreams;
+
+    @Value("${newscuss.http2.max-concurrent-stream-execution:200}")
+    private int maxConcurrentStreamExecution;
+
+    @Value("${newscuss.http2.initial-window-size:1048576}")
+    private int initialWindowSize;
+
+    @Value("${newscuss.http2.keep-alive-timeout-millis:30000}")
+    private long keepAliveTimeoutMillis;
+
+    @Bean
+    public WebServerFactoryCustomizer<TomcatServletWebServerFactory> http2Customizer() {
+        return factory -> factory.addConnectorCustomizers(connector -> {
+            Http2Protocol http2 = null;
+            for (UpgradeProtocol protocol : connector.findUpgradeProtocols()) {
+                if (protocol instanceof Http2Protocol existing) {
+                    http2 = existing;
+                }
+            }
+            if (http2 == null) {
+                http2 = new Http2Protocol();
+                connector.addUpgradeProtocol(http2);
+            }
+
+            http2.setMaxConcurrentStreams(maxConcurrentStreams);
+            http2.setMaxConcurrentStreamExecution(maxConcurrentStreamExecution);
+            http2.setInitialWindowSize(initialWindowSize);
+            http2.setKeepAliveTimeout(keepAliveTimeoutMillis);
+            // 오버헤드 보호(클라이언트가 보내는 작은 DATA 프레임 검사)는 기본값 유지
+            // 서버가 보내는 SSE 프레임은 이 검사 대상이 아님
+
+            log.info("HTTP/2 enabled: max {} concurrent streams, initial window {} bytes",
+                    maxConcurrentStreams, initialWindowSize);
+        });
+    }
+}
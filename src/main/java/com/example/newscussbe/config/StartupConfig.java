@@ -0,0 +1,31 @@
+package com.example.newscussbe.config;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * 빠른 기동 설정 (startup 프로필에서 지연 초기화를 켤 때 사용)
+ * 스케줄 작업이 있는 빈은 아무도 주입받지 않으면 생성되지 않으므로 지연 초기화에서 제외
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    public static LazyInitializationExcludeFilter scheduledBeansExcludeFilter() {
+        return (beanName, beanDefinition, beanType) -> hasScheduledMethod(beanType);
+    }
+
+    private static boolean hasScheduledMethod(Class<?> beanType) {
+        AtomicBoolean found = new AtomicBoolean();
+        ReflectionUtils.doWithMethods(beanType,
+                (Method method) -> found.set(true),
+                method -> !found.get() && AnnotatedElementUtils.hasAnnotation(method, Scheduled.class));
+        return found.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.newscussbe.config;
+
+import com.example.newscussbe.websocket.DiscussionWebSocketHandler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.socket.config.annotation.EnableWebSocket;
+import org.springframework.web.socket.config.annotation.WebSocketConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketHandlerRegistry;
+
+@Configuration
+@EnableWebSocket
+@RequiredArgsConstructor
+public class WebSocketConfig implements WebSocketConfigurer {
+
+    private final DiscussionWebSocketHandler discussionWebSocketHandler;
+
+    @Override
+    public void registerWebSocketHandlers(WebSocketHandlerRegistry registry) {
+        registry.addHandler(discussionWebSocketHandler, "/ws/discussion")
+                .setAllowedOriginPatterns("*");
+    }
+}
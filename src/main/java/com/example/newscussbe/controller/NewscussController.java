@@ -1,16 +1,25 @@
 package com.example.newscussbe.controller;
 
+import com.example.newscussbe.dto.BatchUrlRequestDto;
 import com.example.newscussbe.dto.DiscussionRequestDto;
 import com.example.newscussbe.dto.DiscussionResponseDto;
 import com.example.newscussbe.dto.FeedbackResponseDto;
 import com.example.newscussbe.dto.KeywordSummaryResponseDto;
 import com.example.newscussbe.dto.MessageRequestDto;
 import com.example.newscussbe.dto.MessageResponseDto;
+import com.example.newscussbe.dto.ReportResponseDto;
+import com.example.newscussbe.dto.SessionMessagesResponseDto;
+import com.example.newscussbe.dto.SessionStatusResponseDto;
 import com.example.newscussbe.dto.SummaryResponseDto;
 import com.example.newscussbe.dto.TopicRequestDto;
 import com.example.newscussbe.dto.TopicResponseDto;
 import com.example.newscussbe.dto.UrlRequestDto;
+import com.example.newscussbe.ratelimit.EndpointClass;
+import com.example.newscussbe.ratelimit.RateLimitInterceptor;
 import com.example.newscussbe.service.NewscussService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.MediaType;
@@ -20,10 +29,13 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @Slf4j
 @RestController
@@ -33,6 +45,7 @@ import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 public class NewscussController {
 
     private final NewscussService newscussService;
+    private final RateLimitInterceptor rateLimitInterceptor;
 
     /**
      * URL을 받아 기사 키워드와 요약 정보를 반환
@@ -43,6 +56,53 @@ public class NewscussController {
         return ResponseEntity.ok(responseDto);
     }
 
+    /**
+     * URL을 받아 키워드를 먼저, 요약은 준비되는 대로 스트리밍
+     */
+    @PostMapping(value = "/url/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter processUrlStream(@RequestBody UrlRequestDto requestDto) {
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for URL: {}", requestDto.getUrl()));
+        emitter.onError((ex) -> log.error("SSE error for URL: {}", requestDto.getUrl(), ex));
+
+        try {
+            newscussService.processUrlStream(requestDto.getUrl(), emitter);
+        } catch (Exception e) {
+            log.error("Error starting URL stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 여러 URL을 한 번에 받아 처리된 순서대로 결과를 스트리밍
+     */
+    @PostMapping(value = "/url/batch", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter processUrlBatch(@RequestBody BatchUrlRequestDto requestDto, HttpServletRequest request,
+                                      HttpServletResponse response) throws IOException {
+        // 요청 제한: URL마다 기사 처리 한 번으로 계산 (초과하면 429가 이미 쓰였으므로 그대로 종료)
+        int urlCount = requestDto.getUrls() == null ? 0 : requestDto.getUrls().size();
+        if (!rateLimitInterceptor.acquire(request, response, EndpointClass.INGEST, Math.max(urlCount, 1))) {
+            return null;
+        }
+
+        SseEmitter emitter = new SseEmitter(600000L); // 600초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for URL batch"));
+        emitter.onError((ex) -> log.error("SSE error for URL batch", ex));
+
+        try {
+            newscussService.processUrlBatch(requestDto.getUrls(), emitter);
+        } catch (Exception e) {
+            log.error("Error starting URL batch", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
     /**
      * 토론 주제 생성 요청
      */
@@ -70,14 +130,45 @@ public class NewscussController {
         return ResponseEntity.ok(responseDto);
     }
 
+    /**
+     * 토론 시작 요청 (스트리밍 방식, AI 첫 메시지를 청크로 전송)
+     */
+    @PostMapping(value = "/discussion/start/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter startDiscussionStream(@RequestBody DiscussionRequestDto requestDto) {
+        log.info("Starting SSE discussion start stream for session: {}", requestDto.getSessionId());
+
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for session: {}", requestDto.getSessionId()));
+        emitter.onError((ex) -> log.error("SSE error for session: {}", requestDto.getSessionId(), ex));
+
+        try {
+            newscussService.startDiscussionStream(
+                    requestDto.getSessionId(),
+                    requestDto.getTopic(),
+                    requestDto.getUserPosition(),
+                    requestDto.getDifficulty(),
+                    emitter
+            );
+        } catch (Exception e) {
+            log.error("Error starting discussion stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
     /**
      * 토론 메시지 전송 (기존 방식 유지)
      */
     @PostMapping("/discussion/message")
-    public ResponseEntity<MessageResponseDto> sendMessage(@RequestBody MessageRequestDto requestDto) {
+    public ResponseEntity<MessageResponseDto> sendMessage(
+            @RequestBody MessageRequestDto requestDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         MessageResponseDto responseDto = newscussService.processMessage(
                 requestDto.getSessionId(),
-                requestDto.getMessage()
+                requestDto.getMessage(),
+                idempotencyKey
         );
         return ResponseEntity.ok(responseDto);
     }
@@ -86,7 +177,9 @@ public class NewscussController {
      * 토론 메시지 전송 (스트리밍 방식) - 새로 추가
      */
     @PostMapping(value = "/discussion/message/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamMessage(@RequestBody MessageRequestDto requestDto) {
+    public SseEmitter streamMessage(
+            @RequestBody MessageRequestDto requestDto,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         log.info("Starting SSE stream for session: {}", requestDto.getSessionId());
 
         SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
@@ -98,7 +191,8 @@ public class NewscussController {
 
         try {
             // 백그라운드에서 스트리밍 처리
-            newscussService.processMessageStream(requestDto.getSessionId(), requestDto.getMessage(), emitter);
+            newscussService.processMessageStream(
+                    requestDto.getSessionId(), requestDto.getMessage(), idempotencyKey, emitter);
         } catch (Exception e) {
             log.error("Error starting message stream", e);
             emitter.completeWithError(e);
@@ -107,6 +201,29 @@ public class NewscussController {
         return emitter;
     }
 
+    /**
+     * 끊긴 스트리밍 응답 이어받기 (Last-Event-ID 이후의 이벤트부터 전송)
+     */
+    @GetMapping(value = "/discussion/message/stream/{sessionId}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter resumeStream(@PathVariable String sessionId,
+                                   @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Resuming SSE stream for session: {}", sessionId);
+
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for session: {}", sessionId));
+        emitter.onError((ex) -> log.error("SSE error for session: {}", sessionId, ex));
+
+        try {
+            newscussService.resumeMessageStream(sessionId, lastEventId, emitter);
+        } catch (Exception e) {
+            log.error("Error resuming message stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
     /**
      * 토론 요약 요청
      */
@@ -126,10 +243,110 @@ public class NewscussController {
     }
 
     /**
-     * 세션 상태 확인 (디버깅용)
+     * 토론 요약 요청 (스트리밍 방식)
+     */
+    @GetMapping(value = "/discussion/summary/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSummary(@PathVariable String sessionId) {
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for summary: {}", sessionId));
+        emitter.onError((ex) -> log.error("SSE error for summary: {}", sessionId, ex));
+
+        try {
+            newscussService.streamSummary(sessionId, emitter);
+        } catch (Exception e) {
+            log.error("Error starting summary stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 토론 피드백 요청 (스트리밍 방식)
+     */
+    @GetMapping(value = "/discussion/feedback/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamFeedback(@PathVariable String sessionId) {
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for feedback: {}", sessionId));
+        emitter.onError((ex) -> log.error("SSE error for feedback: {}", sessionId, ex));
+
+        try {
+            newscussService.streamFeedback(sessionId, emitter);
+        } catch (Exception e) {
+            log.error("Error starting feedback stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 토론 요약 + 피드백 통합 요청 (병렬 생성)
+     */
+    @GetMapping("/discussion/report/{sessionId}")
+    public ResponseEntity<ReportResponseDto> getReport(@PathVariable String sessionId) {
+        ReportResponseDto responseDto = newscussService.generateReport(sessionId);
+        return ResponseEntity.ok(responseDto);
+    }
+
+    /**
+     * 토론 요약 + 피드백 통합 요청 (스트리밍 방식, 먼저 끝나는 것부터 전송)
+     */
+    @GetMapping(value = "/discussion/report/{sessionId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamReport(@PathVariable String sessionId) {
+        SseEmitter emitter = new SseEmitter(120000L); // 120초 타임아웃
+
+        emitter.onTimeout(() -> log.warn("SSE timeout for report: {}", sessionId));
+        emitter.onError((ex) -> log.error("SSE error for report: {}", sessionId, ex));
+
+        try {
+            newscussService.streamReport(sessionId, emitter);
+        } catch (Exception e) {
+            log.error("Error starting report stream", e);
+            emitter.completeWithError(e);
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 세션 전체 조회 (디버깅용, 응답에 바로 직렬화)
+     * If-None-Match가 현재 버전과 같으면 304
+     */
+    @GetMapping(value = "/session/{sessionId}", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> checkSession(@PathVariable String sessionId, WebRequest request) {
+        long version = newscussService.getSessionVersion(sessionId);
+        if (request.checkNotModified(etagOf(version))) {
+            return null;
+        }
+        StreamingResponseBody body = outputStream -> newscussService.writeSession(sessionId, outputStream);
+        return ResponseEntity.ok().body(body);
+    }
+
+    /**
+     * 세션 상태 요약 (메시지 본문 제외, 대시보드 폴링용)
      */
-    @GetMapping("/session/{sessionId}")
-    public ResponseEntity<String> checkSession(@PathVariable String sessionId) {
-        return ResponseEntity.ok(newscussService.getSessionStatus(sessionId));
+    @GetMapping("/session/{sessionId}/status")
+    public ResponseEntity<SessionStatusResponseDto> getSessionStatus(@PathVariable String sessionId) {
+        SessionStatusResponseDto responseDto = newscussService.getSessionStatus(sessionId);
+        // ETag가 있으면 If-None-Match 비교 후 304 처리 (Spring MVC)
+        return ResponseEntity.ok().eTag(etagOf(responseDto.getVersion())).body(responseDto);
+    }
+
+    /**
+     * 대화 기록 페이지 조회 (after: 이전 응답의 nextCursor)
+     */
+    @GetMapping("/session/{sessionId}/messages")
+    public ResponseEntity<SessionMessagesResponseDto> getSessionMessages(@PathVariable String sessionId,
+                                                                         @RequestParam(defaultValue = "0") int after,
+                                                                         @RequestParam(defaultValue = "50") int limit) {
+        SessionMessagesResponseDto responseDto = newscussService.getSessionMessages(sessionId, after, limit);
+        return ResponseEntity.ok().eTag(etagOf(responseDto.getVersion())).body(responseDto);
+    }
+
+    private static String etagOf(long version) {
+        return "\"" + version + "\"";
     }
 }
\ No newline at end of file
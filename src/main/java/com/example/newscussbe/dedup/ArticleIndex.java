@@ -0,0 +1,229 @@
+package com.example.newscussbe.dedup;
+
+import com.example.newscussbe.dto.KeywordSummaryResponseDto;
+import com.example.newscussbe.dto.TopicResponseDto;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 최근 처리한 기사 색인 (같은 기사의 추출 결과와 토론 주제 재사용)
+ * - 같은 URL(추적용 쿼리 파라미터 제외): url-ttl-millis 안에 다시 들어오면 추출(/extract)부터 생략
+ *   (기사가 수정될 수 있으므로 그보다 오래된 URL은 다시 추출)
+ * - 다른 URL로 배포된 같은 기사: 추출 결과의 SimHash로 찾아 먼저 처리된 결과와 주제(/topic)를 재사용
+ * - 기사 하나에 연결되는 URL은 max-urls-per-article개까지 (넘으면 오래된 URL부터 해제)
+ */
+@Slf4j
+@Component
+public class ArticleIndex {
+
+    private static final Pattern TRACKING_PARAM = Pattern.compile("^(utm_[a-z]+|fbclid|gclid|ref|from)=.*");
+
+    private final boolean enabled;
+    private final MeterRegistry meterRegistry;
+    private final SimHashIndex<Article> index;
+    private final long urlTtlNanos;
+    private final int maxUrlsPerArticle;
+    private final LongSupplier clock;
+    // byUrl과 Article.urls는 this로 보호
+    private final Map<String, UrlLink> byUrl = new HashMap<>();
+
+    @Autowired
+    public ArticleIndex(MeterRegistry meterRegistry,
+                        @Value("${newscuss.dedup.enabled:false}") boolean enabled,
+                        @Value("${newscuss.dedup.capacity:100000}") int capacity,
+                        @Value("${newscuss.dedup.bands:4}") int bands,
+                        @Value("${newscuss.dedup.max-distance:2}") int maxDistance,
+                        @Value("${newscuss.dedup.url-ttl-millis:3600000}") long urlTtlMillis,
+                        @Value("${newscuss.dedup.max-urls-per-article:16}") int maxUrlsPerArticle) {
+        this(meterRegistry, enabled, capacity, bands, maxDistance, urlTtlMillis, maxUrlsPerArticle, System::nanoTime);
+    }
+
+    ArticleIndex(MeterRegistry meterRegistry, boolean enabled, int capacity, int bands, int maxDistance,
+                 long urlTtlMillis, int maxUrlsPerArticle, LongSupplier clock) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.index = new SimHashIndex<>(capacity, bands, maxDistance);
+        this.urlTtlNanos = TimeUnit.MILLISECONDS.toNanos(urlTtlMillis);
+        this.maxUrlsPerArticle = maxUrlsPerArticle;
+        this.clock = clock;
+
+        if (maxDistance >= bands) {
+            log.warn("Near-duplicate max distance {} is not below band count {}: some duplicates will be missed",
+                    maxDistance, bands);
+        }
+    }
+
+    /**
+     * 색인된 기사 (주제는 생성된 뒤에 채워짐)
+     */
+    public static final class Article {
+
+        private final KeywordSummaryResponseDto extraction;
+        // 이 기사로 연결된 URL, 연결된 순서 (색인에서 밀려날 때 함께 제거)
+        private final List<String> urls = new ArrayList<>();
+        private volatile TopicResponseDto topic;
+
+        private Article(KeywordSummaryResponseDto extraction) {
+            this.extraction = extraction;
+        }
+
+        /**
+         * 추출 결과 사본 (세션 ID 제외)
+         */
+        public KeywordSummaryResponseDto extraction() {
+            return copyOf(extraction);
+        }
+
+        public Optional<TopicResponseDto> topic() {
+            return Optional.ofNullable(topic);
+        }
+    }
+
+    // URL이 기사에 연결된 시각 (같은 URL 재사용 기한 계산)
+    private record UrlLink(Article article, long linkedAtNanos) {
+    }
+
+    /**
+     * 같은 URL로 최근(url-ttl-millis 안에) 처리된 기사 찾기
+     */
+    public Optional<Article> findByUrl(String url) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String normalized = normalize(url);
+        Article article = null;
+        synchronized (this) {
+            UrlLink link = byUrl.get(normalized);
+            if (link != null && clock.getAsLong() - link.linkedAtNanos() >= urlTtlNanos) {
+                unlink(normalized, link.article());
+                record("expired");
+            } else if (link != null) {
+                article = link.article();
+            }
+        }
+        if (article != null) {
+            record("url");
+        }
+        return Optional.ofNullable(article);
+    }
+
+    /**
+     * 추출 결과 색인: 내용이 거의 같은 기사가 이미 있으면 그 기사를 반환하고, 없으면 새로 등록
+     */
+    public Article register(String url, KeywordSummaryResponseDto extraction) {
+        if (!enabled) {
+            return new Article(extraction);
+        }
+
+        long fingerprint = SimHash.fingerprint(extraction.getSummary(), extraction.getKeywords());
+        synchronized (this) {
+            SimHashIndex.Match<Article> match = index.findNearest(fingerprint);
+            if (match != null) {
+                link(url, match.value());
+                record("near");
+                log.info("Near-duplicate article (distance {}): {}", match.distance(), url);
+                return match.value();
+            }
+
+            Article article = new Article(copyOf(extraction));
+            Article evicted = index.add(fingerprint, article);
+            if (evicted != null) {
+                // 이 기사로 연결된 URL만 urls에 남아 있으므로 모두 해제
+                evicted.urls.forEach(byUrl::remove);
+                evicted.urls.clear();
+            }
+            link(url, article);
+            record("miss");
+            return article;
+        }
+    }
+
+    /**
+     * 생성된 토론 주제 기록 (같은 요약/키워드의 기사에서 재사용)
+     */
+    public void recordTopic(String summary, List<String> keywords, TopicResponseDto topic) {
+        if (!enabled || topic == null) {
+            return;
+        }
+        long fingerprint = SimHash.fingerprint(summary, keywords);
+        synchronized (this) {
+            SimHashIndex.Match<Article> match = index.findNearest(fingerprint);
+            if (match != null && match.distance() == 0 && match.value().topic == null) {
+                match.value().topic = topic;
+            }
+        }
+    }
+
+    // this를 잡은 상태에서 호출
+    private void link(String url, Article article) {
+        String normalized = normalize(url);
+        UrlLink previous = byUrl.put(normalized, new UrlLink(article, clock.getAsLong()));
+        if (previous != null && previous.article() == article) {
+            // 이미 연결된 URL: 연결 시각만 갱신하고 가장 최근 순서로
+            article.urls.remove(normalized);
+        } else if (previous != null) {
+            previous.article().urls.remove(normalized);
+        }
+        article.urls.add(normalized);
+
+        while (article.urls.size() > maxUrlsPerArticle) {
+            byUrl.remove(article.urls.remove(0));
+        }
+    }
+
+    // this를 잡은 상태에서 호출
+    private void unlink(String normalizedUrl, Article article) {
+        byUrl.remove(normalizedUrl);
+        article.urls.remove(normalizedUrl);
+    }
+
+    private static KeywordSummaryResponseDto copyOf(KeywordSummaryResponseDto extraction) {
+        return KeywordSummaryResponseDto.builder()
+                .keywords(extraction.getKeywords() == null ? null : List.copyOf(extraction.getKeywords()))
+                .summary(extraction.getSummary())
+                .build();
+    }
+
+    private void record(String outcome) {
+        meterRegistry.counter("newscuss.dedup.lookups", "outcome", outcome).increment();
+    }
+
+    // 스킴/호스트 소문자화, 프래그먼트와 추적용 쿼리 파라미터 제거
+    static String normalize(String url) {
+        try {
+            URI uri = URI.create(url.trim());
+            StringBuilder normalized = new StringBuilder()
+                    .append(uri.getScheme() == null ? "" : uri.getScheme().toLowerCase(Locale.ROOT)).append("://")
+                    .append(uri.getHost() == null ? "" : uri.getHost().toLowerCase(Locale.ROOT))
+                    .append(uri.getPort() == -1 ? "" : ":" + uri.getPort())
+                    .append(uri.getRawPath() == null ? "" : uri.getRawPath());
+
+            if (uri.getRawQuery() != null) {
+                String query = String.join("&", Arrays.stream(uri.getRawQuery().split("&"))
+                        .filter(param -> !param.isEmpty() && !TRACKING_PARAM.matcher(param).matches())
+                        .sorted()
+                        .toList());
+                if (!query.isEmpty()) {
+                    normalized.append('?').append(query);
+                }
+            }
+            return normalized.toString();
+        } catch (IllegalArgumentException e) {
+            return url.trim();
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.newscussbe.dedup;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 64비트 SimHash 지문 계산
+ * 내용이 비슷한 글은 지문의 해밍 거리가 작음
+ * 단어 대신 단어 안의 두 글자 조각을 특징으로 써서 조사/어미가 달라도("정부는"/"정부가") 가깝게 나옴
+ */
+public final class SimHash {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private SimHash() {
+    }
+
+    public static long fingerprint(String text, List<String> keywords) {
+        int[] votes = new int[64];
+
+        for (String token : SEPARATOR.split(text == null ? "" : text.toLowerCase(Locale.ROOT))) {
+            for (int i = 0; i + 2 <= token.length(); i++) {
+                vote(votes, hash(token.substring(i, i + 2)));
+            }
+        }
+
+        if (keywords != null) {
+            for (String keyword : keywords) {
+                if (keyword != null && !keyword.isBlank()) {
+                    vote(votes, hash("#" + keyword.trim().toLowerCase(Locale.ROOT)));
+                }
+            }
+        }
+
+        long fingerprint = 0;
+        for (int bit = 0; bit < 64; bit++) {
+            if (votes[bit] > 0) {
+                fingerprint |= 1L << bit;
+            }
+        }
+        return fingerprint;
+    }
+
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    private static void vote(int[] votes, long hash) {
+        for (int bit = 0; bit < 64; bit++) {
+            votes[bit] += ((hash >>> bit) & 1) != 0 ? 1 : -1;
+        }
+    }
+
+    // FNV-1a 64비트 해시 후 SplitMix64 finalizer로 비트를 고르게 섞음
+    static long hash(String feature) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < feature.length(); i++) {
+            hash ^= feature.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+        hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+        return hash ^ (hash >>> 31);
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.newscussbe.dedup;
+
+import java.util.Arrays;
+
+/**
+ * SimHash 지문 근접 검색 색인 (최근 capacity개만 보관하는 링 버퍼, 스레드 안전하지 않음)
+ * - 64비트 지문을 bands개 구간으로 나누고 구간 값마다 버킷을 둠 (LSH)
+ * - 해밍 거리가 bands 미만인 두 지문은 적어도 한 구간이 같으므로 같은 버킷에서 찾을 수 있음
+ * - 버킷은 슬롯 번호로 연결한 이중 연결 리스트라 추가/제거가 O(1)이고 메모리는 capacity에 비례
+ */
+public class SimHashIndex<T> {
+
+    private static final int EMPTY = -1;
+
+    /**
+     * 검색 결과
+     */
+    public record Match<T>(T value, long fingerprint, int distance) {
+    }
+
+    private final int capacity;
+    private final int maxDistance;
+    private final int[] bandShifts;
+    private final long[] bandMasks;
+
+    private final long[] fingerprints;
+    private final Object[] values;
+    private final int[][] heads;
+    private final int[][] next;
+    private final int[][] prev;
+
+    private int cursor;
+    private int size;
+
+    /**
+     * @param bands       지문을 나눌 구간 수 (4~16, 구간이 많을수록 먼 지문까지 찾지만 구간당 버킷이 줄어
+     *                    후보가 급격히 늘어남: 100만 건에서 4구간은 버킷당 약 15건, 8구간은 약 4000건)
+     * @param maxDistance 같은 글로 볼 최대 해밍 거리 (bands 미만이어야 빠짐없이 찾음)
+     */
+    public SimHashIndex(int capacity, int bands, int maxDistance) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        if (bands < 4 || bands > 16) {
+            throw new IllegalArgumentException("bands must be between 4 and 16: " + bands);
+        }
+
+        this.capacity = capacity;
+        this.maxDistance = maxDistance;
+        this.bandShifts = new int[bands];
+        this.bandMasks = new long[bands];
+        this.heads = new int[bands][];
+        this.next = new int[bands][capacity];
+        this.prev = new int[bands][capacity];
+
+        for (int band = 0; band < bands; band++) {
+            int from = band * 64 / bands;
+            int to = (band + 1) * 64 / bands;
+            bandShifts[band] = from;
+            bandMasks[band] = (1L << (to - from)) - 1;
+            heads[band] = new int[1 << (to - from)];
+            Arrays.fill(heads[band], EMPTY);
+        }
+
+        this.fingerprints = new long[capacity];
+        this.values = new Object[capacity];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    /**
+     * 지문 추가 (가득 차면 가장 오래된 항목을 덮어씀)
+     *
+     * @return 밀려난 항목 (없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public T add(long fingerprint, T value) {
+        int slot = cursor;
+        cursor = (cursor + 1) % capacity;
+
+        T evicted = null;
+        if (values[slot] != null) {
+            evicted = (T) values[slot];
+            unlink(slot);
+        } else {
+            size++;
+        }
+
+        fingerprints[slot] = fingerprint;
+        values[slot] = value;
+        for (int band = 0; band < heads.length; band++) {
+            int bucket = bucketOf(fingerprint, band);
+            int head = heads[band][bucket];
+            next[band][slot] = head;
+            prev[band][slot] = EMPTY;
+            if (head != EMPTY) {
+                prev[band][head] = slot;
+            }
+            heads[band][bucket] = slot;
+        }
+        return evicted;
+    }
+
+    /**
+     * 해밍 거리가 maxDistance 이하인 항목 중 가장 가까운 것 (같으면 최근 항목)
+     */
+    @SuppressWarnings("unchecked")
+    public Match<T> findNearest(long fingerprint) {
+        int bestSlot = EMPTY;
+        int bestDistance = maxDistance + 1;
+
+        for (int band = 0; band < heads.length; band++) {
+            for (int slot = heads[band][bucketOf(fingerprint, band)]; slot != EMPTY; slot = next[band][slot]) {
+                int distance = SimHash.distance(fingerprint, fingerprints[slot]);
+                if (distance < bestDistance) {
+                    bestSlot = slot;
+                    bestDistance = distance;
+                    if (distance == 0) {
+                        return new Match<>((T) values[slot], fingerprints[slot], 0);
+                    }
+                }
+            }
+        }
+
+        return bestSlot == EMPTY ? null : new Match<>((T) values[bestSlot], fingerprints[bestSlot], bestDistance);
+    }
+
+    private void unlink(int slot) {
+        for (int band = 0; band < heads.length; band++) {
+            int before = prev[band][slot];
+            int after = next[band][slot];
+            if (before == EMPTY) {
+                heads[band][bucketOf(fingerprints[slot], band)] = after;
+            } else {
+                next[band][before] = after;
+            }
+            if (after != EMPTY) {
+                prev[band][after] = before;
+            }
+        }
+    }
+
+    private int bucketOf(long fingerprint, int band) {
+        return (int) ((fingerprint >>> bandShifts[band]) & bandMasks[band]);
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.newscussbe.digest;
+
+import com.example.newscussbe.client.PythonApiClient;
+import com.example.newscussbe.dto.Message;
+import com.example.newscussbe.session.SessionData;
+import com.example.newscussbe.session.SessionStore;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 턴이 끝날 때마다 세션의 대화 요약본(digest)을 백그라운드에서 갱신
+ * - coalesce 시간 안에 이어진 턴은 한 번의 갱신으로 묶음
+ * - 최근 메시지는 원문 그대로 두고, 그보다 앞선 메시지만 요약본에 반영
+ * - 요약/피드백/응답 생성 시 요약본 + 반영되지 않은 메시지만 Python API로 전송
+ */
+@Slf4j
+@Component
+public class DigestPipeline {
+
+    private final PythonApiClient pythonApiClient;
+    private final SessionStore sessionStore;
+    private final MeterRegistry meterRegistry;
+    private final Executor llmTaskExecutor;
+    private final Executor delayedExecutor;
+
+    private final boolean enabled;
+    private final int recentMessages;
+    private final int minNewMessages;
+
+    // 갱신이 예약된 세션과 갱신 중인 세션 (세션마다 한 번에 하나만 실행)
+    private final Set<String> scheduled = ConcurrentHashMap.newKeySet();
+    private final Set<String> running = ConcurrentHashMap.newKeySet();
+
+    public DigestPipeline(PythonApiClient pythonApiClient, SessionStore sessionStore, MeterRegistry meterRegistry,
+                          @Qualifier("llmTaskExecutor") Executor llmTaskExecutor,
+                          @Value("${newscuss.digest.enabled:false}") boolean enabled,
+                          @Value("${newscuss.digest.coalesce-millis:3000}") long coalesceMillis,
+                          @Value("${newscuss.digest.recent-messages:6}") int recentMessages,
+                          @Value("${newscuss.digest.min-new-messages:4}") int minNewMessages) {
+        this.pythonApiClient = pythonApiClient;
+        this.sessionStore = sessionStore;
+        this.meterRegistry = meterRegistry;
+        this.llmTaskExecutor = llmTaskExecutor;
+        // 지연 스레드에서 거절되면 예외가 사라지므로, 대기만 지연 스레드에서 하고 제출은 직접 함
+        this.delayedExecutor = CompletableFuture.delayedExecutor(coalesceMillis, TimeUnit.MILLISECONDS);
+        this.enabled = enabled;
+        this.recentMessages = recentMessages;
+        this.minNewMessages = minNewMessages;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 턴 완료 알림 (이미 예약된 갱신이 있으면 그 갱신에 함께 반영됨)
+     */
+    public void onTurnCompleted(String sessionId) {
+        if (enabled && scheduled.add(sessionId)) {
+            delayedExecutor.execute(() -> submit(sessionId));
+        }
+    }
+
+    private void submit(String sessionId) {
+        try {
+            llmTaskExecutor.execute(() -> run(sessionId));
+        } catch (RejectedExecutionException e) {
+            // 예약 표시를 남기면 이 세션의 요약본은 다시 갱신되지 않으므로 지움 (다음 턴에 다시 예약)
+            scheduled.remove(sessionId);
+            log.warn("Digest update for session {} rejected: executor saturated", sessionId);
+            meterRegistry.counter("newscuss.digest.updates", "outcome", "rejected").increment();
+        }
+    }
+
+    private void run(String sessionId) {
+        scheduled.remove(sessionId);
+        if (!running.add(sessionId)) {
+            // 이전 갱신이 아직 진행 중이면 다시 예약
+            onTurnCompleted(sessionId);
+            return;
+        }
+
+        try {
+            update(sessionId);
+        } catch (Exception e) {
+            log.warn("Failed to update digest for session {}: {}", sessionId, e.getMessage());
+            meterRegistry.counter("newscuss.digest.updates", "outcome", "failed").increment();
+        } finally {
+            running.remove(sessionId);
+        }
+    }
+
+    private void update(String sessionId) {
+        SessionData sessionData = sessionStore.find(sessionId).orElse(null);
+        if (sessionData == null || sessionData.getMessages() == null) {
+            return;
+        }
+
+        SessionData.Conversation conversation = sessionData.conversation();
+        List<Message> messages = conversation.messages();
+        String digest = conversation.digest();
+        int digested = conversation.digestedMessageCount();
+        int target = messages.size() - recentMessages;
+        if (target <= digested || target - digested < minNewMessages) {
+            return;
+        }
+
+        String updated = pythonApiClient.updateDigest(
+                sessionId,
+                sessionData.getTopic(),
+                sessionData.getUserPosition(),
+                sessionData.getAiPosition(),
+                digest,
+                messages.subList(digested, target));
+
+        // 갱신하는 동안 토론이 다시 시작되었으면 버림
+        SessionData latest = sessionStore.find(sessionId).orElse(null);
+        if (latest == null || !latest.applyDigest(conversation.epoch(), digest, updated, target)) {
+            return;
+        }
+        sessionStore.save(sessionId, latest);
+
+        log.info("Digest updated for session {}: {} messages digested", sessionId, target);
+        meterRegistry.counter("newscuss.digest.updates", "outcome", "success").increment();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.newscussbe.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUrlItemResponseDto {
+    @Builder.Default
+    private String type = "item";
+    private int index;      // 요청 목록에서의 위치
+    private String url;
+    private KeywordSummaryResponseDto result; // 실패 시 null
+    private String error;                     // 성공 시 null
+}
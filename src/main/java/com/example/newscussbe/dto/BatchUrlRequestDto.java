@@ -0,0 +1,13 @@
+package com.example.newscussbe.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchUrlRequestDto {
+    private List<String> urls;
+}
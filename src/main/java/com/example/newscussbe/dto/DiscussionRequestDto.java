@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class DiscussionRequestDto {
+public class DiscussionRequestDto implements SessionScopedRequest {
     private String sessionId;
     private String topic;
     private String userPosition; // "찬성" 또는 "반대"
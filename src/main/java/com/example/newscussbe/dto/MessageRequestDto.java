@@ -7,7 +7,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class MessageRequestDto {
+public class MessageRequestDto implements SessionScopedRequest {
     private String sessionId;
     private String message;
 }
\ No newline at end of file
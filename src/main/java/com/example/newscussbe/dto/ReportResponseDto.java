@@ -0,0 +1,16 @@
+package com.example.newscussbe.dto;
+
+import java.util.Map;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReportResponseDto {
+    private String summary;
+    private Map<String, Object> feedback;
+}
@@ -0,0 +1,23 @@
+package com.example.newscussbe.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션 대화 기록의 한 페이지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionMessagesResponseDto {
+    private String sessionId;
+    private long version;
+    private int total;          // 전체 메시지 수
+    private int nextCursor;     // 다음 요청의 after 값 (= 이 페이지 마지막 메시지 다음 위치)
+    private boolean hasMore;
+    private List<Message> messages;
+}
@@ -0,0 +1,9 @@
+package com.example.newscussbe.dto;
+
+/**
+ * 요청 본문에 세션 ID를 싣는 요청 (세션별 요청 제한 대상)
+ */
+public interface SessionScopedRequest {
+
+    String getSessionId();
+}
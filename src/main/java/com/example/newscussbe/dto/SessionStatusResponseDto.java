@@ -0,0 +1,28 @@
+package com.example.newscussbe.dto;
+
+import java.time.LocalDateTime;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 세션 상태 요약 (메시지 본문 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionStatusResponseDto {
+    private String sessionId;
+    private long version;               // 세션이 변경될 때마다 증가 (ETag로도 전달)
+    private LocalDateTime lastActivityAt;
+    private String topic;
+    private String userPosition;
+    private String aiPosition;
+    private String difficulty;
+    private int messageCount;
+    private int userMessageCount;
+    private boolean hasDigest;
+    private boolean hasDiscussionSummary;
+}
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class TopicRequestDto {
+public class TopicRequestDto implements SessionScopedRequest {
     private String sessionId;
     private String summary;
     private List<String> keywords;
@@ -1,12 +1,16 @@
 package com.example.newscussbe.exception;
 
+import com.example.newscussbe.ratelimit.RateLimitInterceptor;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.client.RestClientException;
 
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -34,6 +38,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(error, HttpStatus.SERVICE_UNAVAILABLE);
     }
 
+    @ExceptionHandler(PythonApiBusyException.class)
+    public ResponseEntity<Map<String, String>> handlePythonApiBusyException(PythonApiBusyException e) {
+        log.warn("Python API saturated: {}", e.getMessage());
+
+        Map<String, String> error = new HashMap<>();
+        error.put("error", "AI service is busy, retry after " + e.getRetryAfterSeconds() + "s");
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, Long.toString(e.getRetryAfterSeconds()))
+                .body(error);
+    }
+
+    @ExceptionHandler(RateLimitExceededException.class)
+    public void handleRateLimitExceededException(RateLimitExceededException e, HttpServletResponse response)
+            throws IOException {
+        log.warn(e.getMessage());
+
+        // SSE 엔드포인트에서도 그대로 전달되도록 직접 응답
+        RateLimitInterceptor.writeTooManyRequests(response, e.getRetryAfterSeconds());
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<Map<String, String>> handleGenericException(Exception e) {
         log.error("Unexpected error", e);
@@ -0,0 +1,18 @@
+package com.example.newscussbe.exception;
+
+/**
+ * Python API 호출 차례를 정해진 시간 안에 받지 못함 (503 + Retry-After로 응답)
+ */
+public class PythonApiBusyException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PythonApiBusyException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
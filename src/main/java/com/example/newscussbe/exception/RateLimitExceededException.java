@@ -0,0 +1,18 @@
+package com.example.newscussbe.exception;
+
+/**
+ * 요청 제한 초과 (429 + Retry-After로 응답)
+ */
+public class RateLimitExceededException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public RateLimitExceededException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
@@ -0,0 +1,481 @@
+package com.example.newscussbe.keyword;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.Inet4Address;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.net.ssl.SNIHostName;
+import javax.net.ssl.SSLParameters;
+import javax.net.ssl.SSLSocket;
+import javax.net.ssl.SSLSocketFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+/**
+ * 기사 페이지를 직접 받아 제목과 본문 텍스트 추출 (키워드 계산용, 정교한 본문 추출은 Python 측 담당)
+ * 사용자가 준 URL을 서버에서 요청하므로 공개 http(s) 주소만 받음
+ * - 호스트를 한 번만 조회하여 검사하고, 검사한 주소로 직접 연결 (연결 시 다시 조회하면 DNS 응답을 바꿔 내부 주소로 보낼 수 있음)
+ * - 루프백, 링크 로컬, 사설, CGNAT, 벤치마크, 예약, IPv4 매핑/NAT64 주소로 풀리면 받지 않음
+ * - 리다이렉트는 자동으로 따라가지 않고, 대상마다 같은 검사를 거침
+ * HttpURLConnection은 연결할 때 호스트를 다시 조회하므로 GET 요청만 직접 보냄 (Host 헤더와 SNI는 원래 호스트 이름)
+ * 받지 않은 URL은 로컬 키워드 없이 Python 측 처리 결과만 사용
+ */
+@Slf4j
+@Component
+public class ArticleFetcher {
+
+    // 너무 큰 페이지는 앞부분만 사용
+    private static final int MAX_BYTES = 2 * 1024 * 1024;
+    // 본문 문단이 이보다 짧으면 페이지 전체 텍스트 사용
+    private static final int MIN_PARAGRAPH_TEXT = 200;
+    private static final int MAX_REDIRECTS = 5;
+    private static final int MAX_LINE_LENGTH = 8192;
+    private static final int MAX_HEADERS = 100;
+    private static final String USER_AGENT = "Mozilla/5.0 (compatible; NewscussBot/1.0)";
+
+    private static final Pattern REMOVED_BLOCK = Pattern.compile(
+            "(?is)<(script|style|noscript|iframe|svg|header|footer|nav|aside|form)\\b[^>]*>.*?</\\1>");
+    private static final Pattern TITLE = Pattern.compile("(?is)<title[^>]*>(.*?)</title>");
+    private static final Pattern PARAGRAPH = Pattern.compile("(?is)<p\\b[^>]*>(.*?)</p>");
+    private static final Pattern TAG = Pattern.compile("(?s)<[^>]*>");
+    private static final Pattern NUMERIC_ENTITY = Pattern.compile("&#(x?)([0-9a-fA-F]+);");
+    private static final Pattern META_CHARSET = Pattern.compile("(?i)<meta[^>]+charset=[\"']?([\\w-]+)");
+    private static final Pattern IPV4_LITERAL = Pattern.compile("[0-9.]+");
+
+    private final DefaultUriBuilderFactory uriBuilderFactory = new DefaultUriBuilderFactory();
+    private final HostResolver hostResolver;
+    private final int connectTimeout;
+    private final int readTimeout;
+
+    /**
+     * 호스트 이름 조회 (테스트에서 교체)
+     */
+    interface HostResolver {
+
+        InetAddress[] resolve(String host) throws UnknownHostException;
+    }
+
+    @Autowired
+    public ArticleFetcher(@Value("${newscuss.keywords.fetch.connect-timeout-millis:2000}") int connectTimeout,
+                          @Value("${newscuss.keywords.fetch.read-timeout-millis:5000}") int readTimeout) {
+        this(InetAddress::getAllByName, connectTimeout, readTimeout);
+    }
+
+    ArticleFetcher(HostResolver hostResolver, int connectTimeout, int readTimeout) {
+        this.hostResolver = hostResolver;
+        this.connectTimeout = connectTimeout;
+        this.readTimeout = readTimeout;
+    }
+
+    /**
+     * 기사 제목과 본문
+     */
+    public record Article(String title, String text) {
+    }
+
+    // 응답 하나: 기사 또는 리다이렉트 대상
+    private record Page(Article article, URI redirect) {
+    }
+
+    /**
+     * 기사를 받아 파싱 (공개 http(s) 주소가 아니거나 리다이렉트가 너무 많으면 비어 있음)
+     */
+    public Optional<Article> fetch(String url) {
+        URI target;
+        try {
+            target = uriBuilderFactory.expand(url);
+        } catch (IllegalArgumentException e) {
+            log.info("Skipping local fetch of invalid URL {}", url);
+            return Optional.empty();
+        }
+
+        for (int redirects = 0; redirects <= MAX_REDIRECTS; redirects++) {
+            InetAddress address = resolvePublicAddress(target);
+            if (address == null) {
+                log.info("Skipping local fetch of {}: not a public http(s) address", target);
+                return Optional.empty();
+            }
+            Page page;
+            try {
+                page = get(target, address);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to fetch article: " + target, e);
+            }
+            if (page.redirect() == null) {
+                return Optional.of(page.article());
+            }
+            target = target.resolve(page.redirect());
+        }
+
+        log.info("Skipping local fetch of {}: more than {} redirects", url, MAX_REDIRECTS);
+        return Optional.empty();
+    }
+
+    /**
+     * http(s)이고 호스트가 풀리는 주소가 모두 공개 주소이면 연결할 주소, 아니면 null
+     */
+    InetAddress resolvePublicAddress(URI uri) {
+        String scheme = uri.getScheme();
+        if ((!"http".equalsIgnoreCase(scheme) && !"https".equalsIgnoreCase(scheme)) || uri.getHost() == null) {
+            return null;
+        }
+        try {
+            InetAddress[] addresses = hostResolver.resolve(uri.getHost());
+            if (addresses.length == 0) {
+                return null;
+            }
+            for (InetAddress address : addresses) {
+                if (!isPublicAddress(address)) {
+                    return null;
+                }
+            }
+            return addresses[0];
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+
+    static boolean isPublicAddress(InetAddress address) {
+        if (address.isAnyLocalAddress() || address.isLoopbackAddress() || address.isLinkLocalAddress()
+                || address.isSiteLocalAddress() || address.isMulticastAddress()) {
+            return false;
+        }
+        byte[] raw = address.getAddress();
+        if (address instanceof Inet4Address) {
+            return isPublicIpv4(raw);
+        }
+        // IPv6 고유 로컬 주소(fc00::/7)는 isSiteLocalAddress에 포함되지 않음
+        if ((raw[0] & 0xfe) == 0xfc) {
+            return false;
+        }
+        // IPv4 매핑(::ffff:0:0/96)/호환(::/96) 주소: 앞 80비트가 0
+        boolean leadingZeros = true;
+        for (int i = 0; i < 10; i++) {
+            leadingZeros &= raw[i] == 0;
+        }
+        if (leadingZeros) {
+            return false;
+        }
+        // NAT64 (64:ff9b::/96, 64:ff9b:1::/48): 변환 대상 IPv4 주소를 검사할 수 없으므로 받지 않음
+        if (raw[0] == 0x00 && raw[1] == 0x64 && raw[2] == (byte) 0xff && raw[3] == (byte) 0x9b) {
+            return false;
+        }
+        // 6to4 (2002::/16): 포함된 IPv4 주소로 검사
+        if (raw[0] == 0x20 && raw[1] == 0x02) {
+            return isPublicIpv4(new byte[] {raw[2], raw[3], raw[4], raw[5]});
+        }
+        return true;
+    }
+
+    // InetAddress의 분류에 없는 IPv4 특수 용도 대역
+    private static boolean isPublicIpv4(byte[] raw) {
+        int first = raw[0] & 0xff;
+        int second = raw[1] & 0xff;
+        return first != 0 // 0.0.0.0/8
+                && first != 10 && first != 127
+                && !(first == 100 && (second & 0xc0) == 64) // 100.64.0.0/10 (CGNAT)
+                && !(first == 169 && second == 254)
+                && !(first == 172 && (second & 0xf0) == 16)
+                && !(first == 192 && second == 168)
+                && !(first == 192 && second == 0 && raw[2] == 0) // 192.0.0.0/24
+                && !(first == 198 && (second & 0xfe) == 18) // 198.18.0.0/15 (벤치마크)
+                && first < 224; // 멀티캐스트, 예약, 브로드캐스트
+    }
+
+    // 검사한 주소로 연결하여 GET 요청 하나를 보내고 응답을 읽음 (Connection: close)
+    private Page get(URI uri, InetAddress address) throws IOException {
+        boolean https = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : https ? 443 : 80;
+        try (Socket socket = connect(uri.getHost(), address, port, https)) {
+            OutputStream output = socket.getOutputStream();
+            output.write(request(uri, port, https).getBytes(StandardCharsets.US_ASCII));
+            output.flush();
+            return read(new BufferedInputStream(new DeadlineInputStream(socket, readTimeout)));
+        }
+    }
+
+    private Socket connect(String host, InetAddress address, int port, boolean https) throws IOException {
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(address, port), connectTimeout);
+            socket.setSoTimeout(readTimeout);
+            if (!https) {
+                return socket;
+            }
+            // 인증서와 SNI는 주소가 아니라 원래 호스트 이름 기준
+            SSLSocket sslSocket = (SSLSocket) ((SSLSocketFactory) SSLSocketFactory.getDefault())
+                    .createSocket(socket, host, port, true);
+            SSLParameters parameters = sslSocket.getSSLParameters();
+            parameters.setEndpointIdentificationAlgorithm("HTTPS");
+            if (!isIpLiteral(host)) {
+                parameters.setServerNames(List.of(new SNIHostName(host)));
+            }
+            sslSocket.setSSLParameters(parameters);
+            sslSocket.startHandshake();
+            return sslSocket;
+        } catch (IOException | RuntimeException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    private static String request(URI uri, int port, boolean https) {
+        String path = uri.getRawPath() == null || uri.getRawPath().isEmpty() ? "/" : uri.getRawPath();
+        if (uri.getRawQuery() != null) {
+            path += "?" + uri.getRawQuery();
+        }
+        String host = uri.getHost() + (port == (https ? 443 : 80) ? "" : ":" + port);
+        return "GET " + path + " HTTP/1.1\r\n"
+                + HttpHeaders.HOST + ": " + host + "\r\n"
+                + HttpHeaders.USER_AGENT + ": " + USER_AGENT + "\r\n"
+                + HttpHeaders.ACCEPT + ": " + MediaType.TEXT_HTML_VALUE + "\r\n"
+                + HttpHeaders.ACCEPT_ENCODING + ": identity\r\n"
+                + HttpHeaders.CONNECTION + ": close\r\n\r\n";
+    }
+
+    private static Page read(InputStream input) throws IOException {
+        int status;
+        HttpHeaders headers;
+        do {
+            status = readStatus(readLine(input));
+            headers = readHeaders(input);
+        } while (status / 100 == 1);
+
+        if (status / 100 == 3) {
+            String location = headers.getFirst(HttpHeaders.LOCATION);
+            if (location == null) {
+                throw new IOException("Redirect without Location header");
+            }
+            try {
+                return new Page(null, URI.create(location));
+            } catch (IllegalArgumentException e) {
+                throw new IOException("Invalid redirect location: " + location, e);
+            }
+        }
+        if (status / 100 != 2) {
+            throw new IOException("Unexpected status " + status);
+        }
+
+        byte[] body;
+        String contentLength = headers.getFirst(HttpHeaders.CONTENT_LENGTH);
+        if ("chunked".equalsIgnoreCase(headers.getFirst(HttpHeaders.TRANSFER_ENCODING))) {
+            body = readChunked(input);
+        } else if (contentLength != null) {
+            body = readLimited(input, Math.min(parseLength(contentLength, 10), MAX_BYTES));
+        } else {
+            body = readLimited(input, MAX_BYTES);
+        }
+
+        MediaType contentType = parseContentType(headers.getFirst(HttpHeaders.CONTENT_TYPE));
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : sniffCharset(body);
+        return new Page(parse(new String(body, charset)), null);
+    }
+
+    private static int readStatus(String statusLine) throws IOException {
+        String[] parts = statusLine.split(" ", 3);
+        if (parts.length < 2 || !parts[0].startsWith("HTTP/")) {
+            throw new IOException("Malformed status line: " + statusLine);
+        }
+        return (int) parseLength(parts[1], 10);
+    }
+
+    private static HttpHeaders readHeaders(InputStream input) throws IOException {
+        HttpHeaders headers = new HttpHeaders();
+        String line;
+        for (int count = 0; !(line = readLine(input)).isEmpty(); count++) {
+            if (count == MAX_HEADERS) {
+                throw new IOException("Too many response headers");
+            }
+            int colon = line.indexOf(':');
+            if (colon > 0) {
+                headers.add(line.substring(0, colon).trim(), line.substring(colon + 1).trim());
+            }
+        }
+        return headers;
+    }
+
+    private static MediaType parseContentType(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return MediaType.parseMediaType(value);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static long parseLength(String value, int radix) throws IOException {
+        try {
+            long length = Long.parseLong(value.trim(), radix);
+            if (length < 0) {
+                throw new IOException("Negative length: " + value);
+            }
+            return length;
+        } catch (NumberFormatException e) {
+            throw new IOException("Malformed number: " + value, e);
+        }
+    }
+
+    // CRLF(또는 LF)로 끝나는 한 줄 (줄바꿈 제외)
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = input.read()) != '\n') {
+            if (b == -1) {
+                throw new IOException("Connection closed before end of line");
+            }
+            if (line.length() == MAX_LINE_LENGTH) {
+                throw new IOException("Response line too long");
+            }
+            line.append((char) b);
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(length - 1);
+        }
+        return line.toString();
+    }
+
+    private static byte[] readChunked(InputStream input) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        while (output.size() < MAX_BYTES) {
+            String sizeLine = readLine(input);
+            int extension = sizeLine.indexOf(';');
+            long size = parseLength(extension >= 0 ? sizeLine.substring(0, extension) : sizeLine, 16);
+            if (size == 0) {
+                break;
+            }
+            long remaining = MAX_BYTES - output.size();
+            output.write(readLimited(input, Math.min(size, remaining)));
+            if (size > remaining) {
+                break;
+            }
+            readLine(input);
+        }
+        return output.toByteArray();
+    }
+
+    static Article parse(String html) {
+        Matcher title = TITLE.matcher(html);
+        String titleText = title.find() ? toText(title.group(1)) : "";
+
+        String content = REMOVED_BLOCK.matcher(html).replaceAll(" ");
+        StringBuilder paragraphs = new StringBuilder();
+        Matcher paragraph = PARAGRAPH.matcher(content);
+        while (paragraph.find()) {
+            paragraphs.append(toText(paragraph.group(1))).append('\n');
+        }
+
+        String text = paragraphs.length() >= MIN_PARAGRAPH_TEXT ? paragraphs.toString() : toText(content);
+        return new Article(titleText, text);
+    }
+
+    private static String toText(String html) {
+        String text = TAG.matcher(html).replaceAll(" ")
+                .replace("&nbsp;", " ")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&amp;", "&");
+        text = NUMERIC_ENTITY.matcher(text).replaceAll(match -> {
+            try {
+                int codePoint = Integer.parseInt(match.group(2), match.group(1).isEmpty() ? 10 : 16);
+                return Matcher.quoteReplacement(new String(Character.toChars(codePoint)));
+            } catch (IllegalArgumentException e) {
+                return " ";
+            }
+        });
+        return text.replaceAll("\\s+", " ").trim();
+    }
+
+    // Content-Type에 charset이 없으면 <meta charset>을 확인하고, 없으면 UTF-8
+    private static Charset sniffCharset(byte[] body) {
+        String head = new String(body, 0, Math.min(body.length, 4096), StandardCharsets.ISO_8859_1);
+        Matcher meta = META_CHARSET.matcher(head);
+        if (meta.find()) {
+            try {
+                return Charset.forName(meta.group(1));
+            } catch (IllegalArgumentException e) {
+                log.debug("Unknown charset in page: {}", meta.group(1));
+            }
+        }
+        return StandardCharsets.UTF_8;
+    }
+
+    private static byte[] readLimited(InputStream input, long limit) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while (output.size() < limit
+                && (read = input.read(buffer, 0, (int) Math.min(buffer.length, limit - output.size()))) != -1) {
+            output.write(buffer, 0, read);
+        }
+        return output.toByteArray();
+    }
+
+    /**
+     * 응답 전체를 읽는 시간 제한 (조금씩 보내며 스레드를 붙잡는 서버 대응)
+     * 남은 시간을 매번 소켓 읽기 제한으로 설정
+     */
+    private static final class DeadlineInputStream extends FilterInputStream {
+
+        private final Socket socket;
+        private final long deadlineNanos;
+
+        private DeadlineInputStream(Socket socket, int timeoutMillis) throws IOException {
+            super(socket.getInputStream());
+            this.socket = socket;
+            this.deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        }
+
+        @Override
+        public int read() throws IOException {
+            checkDeadline();
+            return super.read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            checkDeadline();
+            return super.read(buffer, offset, length);
+        }
+
+        private void checkDeadline() throws IOException {
+            long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime());
+            if (remainingMillis <= 0) {
+                throw new SocketTimeoutException("Article response not completed in time");
+            }
+            socket.setSoTimeout((int) remainingMillis);
+        }
+    }
+
+    private static boolean isIpLiteral(String host) {
+        return host.startsWith("[") || IPV4_LITERAL.matcher(host).matches();
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.newscussbe.keyword;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 단어별 문서 빈도(DF) 표 (IDF 계산용)
+ * 형식: 주석(#)을 제외한 첫 줄은 "__documents__\t{전체 문서 수}", 이후 "{단어}\t{문서 수}"
+ */
+public class DocumentFrequencyTable {
+
+    private static final String DOCUMENTS_KEY = "__documents__";
+
+    private final int documents;
+    private final Map<String, Integer> frequencies;
+
+    DocumentFrequencyTable(int documents, Map<String, Integer> frequencies) {
+        this.documents = documents;
+        this.frequencies = frequencies;
+    }
+
+    public static DocumentFrequencyTable load(InputStream input) throws IOException {
+        int documents = 0;
+        Map<String, Integer> frequencies = new HashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+                int tab = line.indexOf('\t');
+                if (tab <= 0) {
+                    continue;
+                }
+                String term = line.substring(0, tab).trim();
+                int count = Integer.parseInt(line.substring(tab + 1).trim());
+                if (DOCUMENTS_KEY.equals(term)) {
+                    documents = count;
+                } else {
+                    frequencies.put(term, count);
+                }
+            }
+        }
+
+        if (documents <= 0) {
+            throw new IOException("Document frequency table has no " + DOCUMENTS_KEY + " line");
+        }
+        return new DocumentFrequencyTable(documents, Map.copyOf(frequencies));
+    }
+
+    public int size() {
+        return frequencies.size();
+    }
+
+    /**
+     * 평활화한 IDF (표에 없는 단어는 드문 단어로 보고 가장 큰 값)
+     */
+    public double idf(String term) {
+        int frequency = Math.min(frequencies.getOrDefault(term, 0), documents);
+        return Math.log((documents + 1.0) / (frequency + 1.0)) + 1.0;
+    }
+}
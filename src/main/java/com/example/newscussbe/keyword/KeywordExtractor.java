@@ -0,0 +1,82 @@
+package com.example.newscussbe.keyword;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+/**
+ * TF-IDF 키워드 추출 (LLM 호출 없이 수 밀리초 안에 기사 키워드를 계산)
+ * 제목에 나온 단어는 본문보다 가중치를 높게 줌
+ */
+@Slf4j
+@Component
+public class KeywordExtractor {
+
+    private static final int TITLE_WEIGHT = 3;
+
+    private final KoreanTokenizer tokenizer;
+    private final DocumentFrequencyTable documentFrequencies;
+    private final int limit;
+
+    @Autowired
+    public KeywordExtractor(@Value("${newscuss.keywords.df-table:classpath:keyword/df.tsv}") Resource dfTable,
+                            @Value("${newscuss.keywords.stopwords:classpath:keyword/stopwords.txt}") Resource stopwords,
+                            @Value("${newscuss.keywords.limit:5}") int limit) throws IOException {
+        this(new KoreanTokenizer(loadStopwords(stopwords)), DocumentFrequencyTable.load(dfTable.getInputStream()), limit);
+        log.info("Keyword extractor loaded {} document frequencies", documentFrequencies.size());
+    }
+
+    KeywordExtractor(KoreanTokenizer tokenizer, DocumentFrequencyTable documentFrequencies, int limit) {
+        this.tokenizer = tokenizer;
+        this.documentFrequencies = documentFrequencies;
+        this.limit = limit;
+    }
+
+    public List<String> extract(String title, String text) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        for (String token : tokenizer.tokenize(title)) {
+            termFrequencies.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : tokenizer.tokenize(text)) {
+            termFrequencies.merge(token, 1, Integer::sum);
+        }
+
+        Map<String, Double> scores = new HashMap<>(termFrequencies.size());
+        termFrequencies.forEach((term, frequency) ->
+                scores.put(term, (1 + Math.log(frequency)) * documentFrequencies.idf(term)));
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<String, Double>comparingByValue(Comparator.reverseOrder())
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    private static Set<String> loadStopwords(Resource resource) throws IOException {
+        Set<String> stopwords = new HashSet<>();
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String word = line.trim();
+                if (!word.isEmpty() && !word.startsWith("#")) {
+                    stopwords.add(word);
+                }
+            }
+        }
+        return Set.copyOf(stopwords);
+    }
+}
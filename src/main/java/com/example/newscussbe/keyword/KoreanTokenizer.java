@@ -0,0 +1,80 @@
+package com.example.newscussbe.keyword;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * 형태소 분석기 없이 쓰는 가벼운 한국어 토크나이저
+ * - 공백/기호로 나눈 뒤 어절 끝의 조사와 "하다/되다"류 어미를 떼어 명사 후보만 남김
+ * - 남은 어간이 한 글자가 되면 떼지 않음 ("국가" → "국" 방지)
+ */
+public class KoreanTokenizer {
+
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // 긴 것부터 비교 (예: "에서"를 "서"보다 먼저)
+    private static final List<String> PARTICLES = List.of(
+            "으로부터", "에서부터", "에게서", "한테서", "이라고", "이라는", "이라며", "에서는", "에서도", "으로는",
+            "으로서", "으로써", "까지", "부터", "에서", "에게", "한테", "으로", "로서", "로써", "처럼", "보다",
+            "마저", "조차", "이나", "이며", "이고", "라고", "라는", "에는", "에도", "와의", "과의", "만의", "들이",
+            "들은", "들을", "들의", "와", "과", "은", "는", "이", "가", "을", "를", "의", "에", "로", "도", "만", "들");
+
+    private static final List<String> PREDICATE_ENDINGS = List.of(
+            "하겠다고", "했다고", "한다고", "하겠다", "했으며", "했지만", "하면서", "했다", "한다", "하는", "하며",
+            "하고", "해야", "했던", "하기", "하자", "됐다고", "된다고", "됐으며", "됐다", "된다", "되는", "되며",
+            "되고", "되어", "돼야", "됐던", "시켰다", "시킨다", "시키는", "적인", "적으로");
+
+    private final Set<String> stopwords;
+
+    public KoreanTokenizer(Set<String> stopwords) {
+        this.stopwords = stopwords;
+    }
+
+    public List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+
+        for (String word : SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            String token = isHangul(word) ? stem(word) : word;
+            if (isCandidate(token)) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    static String stem(String word) {
+        String stem = stripSuffix(word, PREDICATE_ENDINGS);
+        if (stem == word) {
+            stem = stripSuffix(word, PARTICLES);
+        }
+        return stem;
+    }
+
+    private static String stripSuffix(String word, List<String> suffixes) {
+        for (String suffix : suffixes) {
+            if (word.endsWith(suffix) && word.length() - suffix.length() >= 2) {
+                return word.substring(0, word.length() - suffix.length());
+            }
+        }
+        return word;
+    }
+
+    private boolean isCandidate(String token) {
+        if (token.isEmpty() || stopwords.contains(token)) {
+            return false;
+        }
+        // 한글은 두 글자 이상, 그 외(영문 등)는 세 글자 이상, 숫자로 시작하는 토큰(날짜, 금액 등) 제외
+        int minLength = isHangul(token) ? 2 : 3;
+        return token.length() >= minLength && !Character.isDigit(token.charAt(0));
+    }
+
+    private static boolean isHangul(String word) {
+        return !word.isEmpty() && Character.UnicodeScript.of(word.charAt(0)) == Character.UnicodeScript.HANGUL;
+    }
+}
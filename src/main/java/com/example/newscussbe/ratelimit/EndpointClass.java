@@ -0,0 +1,11 @@
+package com.example.newscussbe.ratelimit;
+
+/**
+ * 요청 제한 단위가 되는 엔드포인트 분류
+ */
+public enum EndpointClass {
+    INGEST,  // 기사 처리 (일괄 처리는 URL마다)
+    TOPIC,   // 주제 생성
+    TURN,    // 토론 시작, 메시지
+    REPORT   // 요약, 피드백, 리포트
+}
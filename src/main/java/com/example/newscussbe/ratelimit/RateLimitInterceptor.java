@@ -0,0 +1,153 @@
+package com.example.newscussbe.ratelimit;
+
+import com.example.newscussbe.dto.SessionScopedRequest;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 엔드포인트 분류별 요청 제한 적용
+ * 세션 ID는 경로 변수 또는 X-Session-Id 헤더에서 가져옴
+ * 본문에 세션 ID를 싣는 요청은 본문을 읽은 뒤 RateLimitRequestBodyAdvice에서 적용
+ * 클라이언트 IP는 request.getRemoteAddr() 기준이므로, 프록시 뒤에서는 server.forward-headers-strategy를 설정해야 함
+ * (설정하지 않으면 모든 요청이 프록시 IP 하나의 버킷을 공유)
+ */
+@Slf4j
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+
+    private static final String API_KEY_HEADER = "X-API-Key";
+    private static final String SESSION_ID_HEADER = "X-Session-Id";
+    // URL 수만큼 토큰을 써야 하므로 본문을 읽은 컨트롤러에서 acquire 호출
+    private static final String BATCH_PATH = "/api/url/batch";
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitInterceptor(RateLimiter rateLimiter,
+                                @Value("${newscuss.rate-limit.enabled:false}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws Exception {
+        // SSE 완료 등 비동기 재디스패치는 이미 허용된 요청
+        if (request.getDispatcherType() == DispatcherType.ASYNC) {
+            return true;
+        }
+
+        EndpointClass endpointClass = classify(request.getRequestURI());
+        if (endpointClass == null || request.getRequestURI().equals(BATCH_PATH) || readsSessionFromBody(handler)) {
+            return true;
+        }
+        return acquire(request, response, endpointClass, 1);
+    }
+
+    /**
+     * 토큰 permits개 사용, 부족하면 429 응답을 쓰고 false 반환 (요청 제한이 꺼져 있으면 항상 true)
+     */
+    public boolean acquire(HttpServletRequest request, HttpServletResponse response, EndpointClass endpointClass,
+                           int permits) throws IOException {
+        if (!enabled) {
+            return true;
+        }
+        long waitNanos = rateLimiter.tryAcquire(endpointClass, keysOf(request, null), permits);
+        if (waitNanos == 0) {
+            return true;
+        }
+
+        log.warn("Rate limit exceeded for {} {} from {}", endpointClass, request.getRequestURI(), request.getRemoteAddr());
+        writeTooManyRequests(response, retryAfterSeconds(waitNanos));
+        return false;
+    }
+
+    /**
+     * 429 응답을 직접 씀 (SSE 요청에도 그대로 전달되도록 메시지 변환기를 거치지 않음)
+     */
+    public static void writeTooManyRequests(HttpServletResponse response, long retryAfterSeconds) throws IOException {
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        response.getWriter().write("{\"error\":\"Too many requests, retry after " + retryAfterSeconds + "s\"}");
+    }
+
+    static long retryAfterSeconds(long waitNanos) {
+        return Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+    }
+
+    // @RequestBody로 SessionScopedRequest를 받는 핸들러인지
+    static boolean readsSessionFromBody(Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return false;
+        }
+        for (MethodParameter parameter : handlerMethod.getMethodParameters()) {
+            if (parameter.hasParameterAnnotation(RequestBody.class)
+                    && SessionScopedRequest.class.isAssignableFrom(parameter.getParameterType())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static EndpointClass classify(String uri) {
+        if (uri.startsWith("/api/url")) {
+            return EndpointClass.INGEST;
+        }
+        if (uri.startsWith("/api/topic")) {
+            return EndpointClass.TOPIC;
+        }
+        if (uri.startsWith("/api/discussion/summary") || uri.startsWith("/api/discussion/feedback")
+                || uri.startsWith("/api/discussion/report")) {
+            return EndpointClass.REPORT;
+        }
+        if (uri.startsWith("/api/discussion/")) {
+            return EndpointClass.TURN;
+        }
+        return null;
+    }
+
+    /**
+     * 요청 제한 대상: 클라이언트 IP, API 키, 세션 ID (sessionId가 null이면 헤더나 경로 변수에서 찾음)
+     */
+    static List<String> keysOf(HttpServletRequest request, String sessionId) {
+        List<String> keys = new ArrayList<>(3);
+        keys.add("ip:" + request.getRemoteAddr());
+
+        String apiKey = request.getHeader(API_KEY_HEADER);
+        if (apiKey != null && !apiKey.isBlank()) {
+            keys.add("key:" + apiKey);
+        }
+
+        if (sessionId == null) {
+            sessionId = request.getHeader(SESSION_ID_HEADER);
+        }
+        if (sessionId == null) {
+            @SuppressWarnings("unchecked")
+            Map<String, String> pathVariables =
+                    (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            sessionId = pathVariables != null ? pathVariables.get("sessionId") : null;
+        }
+        if (sessionId != null && !sessionId.isBlank()) {
+            keys.add("session:" + sessionId);
+        }
+        return keys;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.newscussbe.ratelimit;
+
+import com.example.newscussbe.dto.SessionScopedRequest;
+import com.example.newscussbe.exception.RateLimitExceededException;
+import jakarta.servlet.http.HttpServletRequest;
+import java.lang.reflect.Type;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.mvc.method.annotation.RequestBodyAdviceAdapter;
+
+/**
+ * 본문에 세션 ID를 싣는 요청(/topic, /discussion/start, /discussion/message 등)의 요청 제한
+ * 세션 ID를 알아야 하므로 인터셉터 대신 본문을 읽은 직후 IP, API 키, 세션 버킷을 한 번에 확인
+ * 초과하면 RateLimitExceededException (GlobalExceptionHandler에서 429 응답)
+ */
+@ControllerAdvice
+public class RateLimitRequestBodyAdvice extends RequestBodyAdviceAdapter {
+
+    private final RateLimiter rateLimiter;
+    private final boolean enabled;
+
+    public RateLimitRequestBodyAdvice(RateLimiter rateLimiter,
+                                      @Value("${newscuss.rate-limit.enabled:false}") boolean enabled) {
+        this.rateLimiter = rateLimiter;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean supports(MethodParameter methodParameter, Type targetType,
+                            Class<? extends HttpMessageConverter<?>> converterType) {
+        return enabled && SessionScopedRequest.class.isAssignableFrom(methodParameter.getParameterType());
+    }
+
+    @Override
+    public Object afterBodyRead(Object body, HttpInputMessage inputMessage, MethodParameter parameter,
+                                Type targetType, Class<? extends HttpMessageConverter<?>> converterType) {
+        HttpServletRequest request =
+                ((ServletRequestAttributes) RequestContextHolder.currentRequestAttributes()).getRequest();
+        EndpointClass endpointClass = RateLimitInterceptor.classify(request.getRequestURI());
+        if (endpointClass == null) {
+            return body;
+        }
+
+        String sessionId = ((SessionScopedRequest) body).getSessionId();
+        long waitNanos = rateLimiter.tryAcquire(endpointClass, RateLimitInterceptor.keysOf(request, sessionId), 1);
+        if (waitNanos > 0) {
+            throw new RateLimitExceededException("Rate limit exceeded for " + endpointClass + " "
+                    + request.getRequestURI() + " from " + request.getRemoteAddr(),
+                    RateLimitInterceptor.retryAfterSeconds(waitNanos));
+        }
+        return body;
+    }
+}
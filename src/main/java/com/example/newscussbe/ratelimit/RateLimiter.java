@@ -0,0 +1,119 @@
+package com.example.newscussbe.ratelimit;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 클라이언트 IP, API 키, 세션 ID별 요청 제한
+ * 버킷은 ConcurrentHashMap에 두고 각 버킷은 CAS로만 갱신하므로 요청 간 잠금이 없음
+ */
+@Slf4j
+@Component
+public class RateLimiter {
+
+    private final Map<EndpointClass, Limit> limits = new EnumMap<>(EndpointClass.class);
+    private final ConcurrentHashMap<String, TokenBucket> buckets = new ConcurrentHashMap<>();
+    private final long originNanos = System.nanoTime();
+    private final long idleNanos;
+
+    public RateLimiter(Environment environment,
+                       @Value("${newscuss.rate-limit.idle-evict-millis:600000}") long idleEvictMillis) {
+        for (EndpointClass endpointClass : EndpointClass.values()) {
+            String prefix = "newscuss.rate-limit." + endpointClass.name().toLowerCase() + ".";
+            double ratePerSecond = environment.getProperty(prefix + "rate-per-second", Double.class, 1.0);
+            int burst = environment.getProperty(prefix + "burst", Integer.class, 10);
+            limits.put(endpointClass, Limit.of(ratePerSecond, burst));
+        }
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleEvictMillis);
+        log.info("Rate limits: {}", limits);
+    }
+
+    /**
+     * 요청 허용 여부 확인: 모든 제한 대상에 토큰이 있을 때만 모두에서 사용
+     * (하나라도 부족하면 어느 대상의 토큰도 쓰지 않음)
+     *
+     * @param keys    제한 대상 (예: "ip:10.0.0.1", "session:...")
+     * @param permits 사용할 토큰 수 (일괄 요청은 항목 수)
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 나노초
+     */
+    public long tryAcquire(EndpointClass endpointClass, List<String> keys, int permits) {
+        Limit limit = limits.get(endpointClass);
+        while (true) {
+            long waitNanos = tryAcquire(endpointClass, limit, keys, permits);
+            // 중간에 제거된 버킷을 만났으면 새 버킷으로 처음부터 다시 시도
+            if (waitNanos != TokenBucket.RETIRED) {
+                return waitNanos;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private long tryAcquire(EndpointClass endpointClass, Limit limit, List<String> keys, int permits) {
+        long interval = limit.emissionIntervalNanos();
+        long tolerance = limit.burstToleranceNanos();
+        long now = now();
+
+        List<TokenBucket> targets = new ArrayList<>(keys.size());
+        long waitNanos = 0;
+        for (String key : keys) {
+            TokenBucket bucket = buckets.computeIfAbsent(endpointClass.name() + '|' + key, k -> new TokenBucket());
+            long peeked = bucket.peek(now, interval, tolerance, permits);
+            if (peeked == TokenBucket.RETIRED) {
+                return TokenBucket.RETIRED;
+            }
+            targets.add(bucket);
+            waitNanos = Math.max(waitNanos, peeked);
+        }
+        if (waitNanos > 0) {
+            return waitNanos;
+        }
+
+        // 확인한 뒤 다른 요청이 먼저 토큰을 쓴 경우(또는 버킷이 제거된 경우), 이미 쓴 토큰은 돌려줌
+        for (int i = 0; i < targets.size(); i++) {
+            waitNanos = targets.get(i).tryAcquire(now, interval, tolerance, permits);
+            if (waitNanos != 0) {
+                for (int j = 0; j < i; j++) {
+                    targets.get(j).release(interval, permits);
+                }
+                return waitNanos;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * 오래 쓰이지 않은 버킷 제거 (메모리 사용량 제한)
+     */
+    @Scheduled(fixedDelayString = "${newscuss.rate-limit.cleanup-interval-millis:60000}")
+    public void evictIdle() {
+        long now = now();
+        // 제거 표시를 먼저 하므로, 이미 버킷을 꺼낸 요청은 표시를 보고 새 버킷으로 다시 시도
+        buckets.values().removeIf(bucket -> bucket.retireIfIdle(now, idleNanos));
+    }
+
+    public int bucketCount() {
+        return buckets.size();
+    }
+
+    // 0부터 시작하는 단조 증가 시각
+    private long now() {
+        return System.nanoTime() - originNanos;
+    }
+
+    record Limit(long emissionIntervalNanos, long burstToleranceNanos) {
+
+        static Limit of(double ratePerSecond, int burst) {
+            long emissionInterval = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            return new Limit(emissionInterval, emissionInterval * Math.max(burst - 1, 0));
+        }
+    }
+}
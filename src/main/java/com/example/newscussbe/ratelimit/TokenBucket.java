@@ -0,0 +1,99 @@
+package com.example.newscussbe.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 잠금 없는 토큰 버킷 (GCRA: 다음 요청이 허용되는 이론적 도착 시각 하나만 CAS로 갱신)
+ */
+final class TokenBucket {
+
+    /**
+     * 제거된 버킷에 대한 tryAcquire/peek 결과 (호출 측에서 맵의 새 버킷으로 다시 시도)
+     */
+    static final long RETIRED = -1;
+
+    // 제거된 버킷의 이론적 도착 시각 (시각은 0 이상이므로 겹치지 않음)
+    private static final long RETIRED_ARRIVAL = Long.MIN_VALUE;
+
+    // 이론적 도착 시각 (이 시각 이전에는 버킷이 가득 차 있지 않음)
+    private final AtomicLong theoreticalArrival = new AtomicLong();
+
+    /**
+     * 토큰 하나 사용 시도
+     *
+     * @param now              현재 시각 (나노초, 0 이상)
+     * @param emissionInterval 토큰 하나가 채워지는 시간
+     * @param burstTolerance   한 번에 허용되는 추가 요청 분량 ((burst - 1) x emissionInterval)
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 나노초, 제거된 버킷이면 RETIRED
+     */
+    long tryAcquire(long now, long emissionInterval, long burstTolerance) {
+        return tryAcquire(now, emissionInterval, burstTolerance, 1);
+    }
+
+    /**
+     * 토큰 여러 개 사용 시도
+     * burst보다 많이 요청하면 버킷이 가득 찼을 때 허용하고, 넘는 분량만큼 이후 요청이 기다림
+     *
+     * @return 0이면 허용, 양수면 다시 시도할 수 있을 때까지 남은 나노초, 제거된 버킷이면 RETIRED
+     */
+    long tryAcquire(long now, long emissionInterval, long burstTolerance, int permits) {
+        while (true) {
+            long current = theoreticalArrival.get();
+            if (current == RETIRED_ARRIVAL) {
+                return RETIRED;
+            }
+            long base = Math.max(current, now);
+            long wait = waitNanos(base, now, emissionInterval, burstTolerance, permits);
+            if (wait > 0) {
+                return wait;
+            }
+            if (theoreticalArrival.compareAndSet(current, base + emissionInterval * permits)) {
+                return 0;
+            }
+        }
+    }
+
+    /**
+     * 토큰을 쓰지 않고 tryAcquire 결과만 확인
+     */
+    long peek(long now, long emissionInterval, long burstTolerance, int permits) {
+        long current = theoreticalArrival.get();
+        if (current == RETIRED_ARRIVAL) {
+            return RETIRED;
+        }
+        return waitNanos(Math.max(current, now), now, emissionInterval, burstTolerance, permits);
+    }
+
+    /**
+     * tryAcquire로 사용한 토큰 반환
+     */
+    void release(long emissionInterval, int permits) {
+        theoreticalArrival.updateAndGet(current ->
+                current == RETIRED_ARRIVAL ? current : current - emissionInterval * permits);
+    }
+
+    private static long waitNanos(long base, long now, long emissionInterval, long burstTolerance, int permits) {
+        long required = Math.min((permits - 1) * emissionInterval, burstTolerance);
+        return base - now + required - burstTolerance;
+    }
+
+    /**
+     * 버킷이 가득 찬 뒤 idleNanos 이상 지났는지 (제거해도 동작이 달라지지 않음)
+     */
+    boolean isIdle(long now, long idleNanos) {
+        long current = theoreticalArrival.get();
+        return current != RETIRED_ARRIVAL && now - current > idleNanos;
+    }
+
+    /**
+     * 유휴 상태이면 제거 표시 (이후 tryAcquire/peek은 RETIRED)
+     * 맵에서 꺼낸 뒤 아직 토큰을 쓰지 않은 요청이 제거된 버킷에 기록하고 끝나지 않도록, 제거 전에 표시함
+     *
+     * @return 표시했으면 true (맵에서 제거해야 함)
+     */
+    boolean retireIfIdle(long now, long idleNanos) {
+        long current = theoreticalArrival.get();
+        return current != RETIRED_ARRIVAL && now - current > idleNanos
+                && theoreticalArrival.compareAndSet(current, RETIRED_ARRIVAL);
+    }
+}
@@ -4,8 +4,14 @@ import com.example.newscussbe.dto.DiscussionResponseDto;
 import com.example.newscussbe.dto.FeedbackResponseDto;
 import com.example.newscussbe.dto.KeywordSummaryResponseDto;
 import com.example.newscussbe.dto.MessageResponseDto;
+import com.example.newscussbe.dto.ReportResponseDto;
+import com.example.newscussbe.dto.SessionMessagesResponseDto;
+import com.example.newscussbe.dto.SessionStatusResponseDto;
 import com.example.newscussbe.dto.SummaryResponseDto;
 import com.example.newscussbe.dto.TopicResponseDto;
+import com.example.newscussbe.stream.StreamListener;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
@@ -16,6 +22,17 @@ public interface NewscussService {
      */
     KeywordSummaryResponseDto processUrl(String url);
 
+    /**
+     * URL 처리 (스트리밍 방식)
+     * 기사에서 직접 계산한 키워드(keywords)를 먼저 보내고, LLM 추출이 끝나면 세션 ID와 요약(result)을 전송
+     */
+    void processUrlStream(String url, SseEmitter emitter);
+
+    /**
+     * 여러 URL을 병렬로 처리하고 결과를 완료되는 순서대로 스트리밍
+     */
+    void processUrlBatch(List<String> urls, SseEmitter emitter);
+
     /**
      * 토론 주제 생성
      */
@@ -26,15 +43,35 @@ public interface NewscussService {
      */
     DiscussionResponseDto startDiscussion(String sessionId, String topic, String userPosition, String difficulty);
 
+    /**
+     * 토론 시작 (스트리밍 방식) - start 이벤트(aiPosition) 후 AI 첫 메시지를 청크로 전송
+     * 완료 시 첫 메시지를 세션에 저장하며, 메시지 스트림과 같은 방식으로 이어받을 수 있음
+     */
+    void startDiscussionStream(String sessionId, String topic, String userPosition, String difficulty,
+                               SseEmitter emitter);
+
     /**
      * 사용자 메시지 처리 및 AI 응답 생성 (기존 방식)
+     * idempotencyKey가 같은 반복 요청은 새로 처리하지 않고 같은 응답을 반환 (없으면 null)
      */
-    MessageResponseDto processMessage(String sessionId, String message);
+    MessageResponseDto processMessage(String sessionId, String message, String idempotencyKey);
 
     /**
      * 사용자 메시지 처리 및 AI 응답 생성 (스트리밍 방식) - 새로 추가
+     * idempotencyKey가 같은 반복 요청은 진행 중인 스트림에 연결 (없으면 null)
      */
-    void processMessageStream(String sessionId, String message, SseEmitter emitter);
+    void processMessageStream(String sessionId, String message, String idempotencyKey, SseEmitter emitter);
+
+    /**
+     * 사용자 메시지 처리 및 AI 응답 생성 (스트리밍 방식, SSE 외 전송 수단용)
+     * listener에는 SSE와 같은 JSON 이벤트(chunk/end/error)가 전달됨
+     */
+    void processMessageStream(String sessionId, String message, String idempotencyKey, StreamListener listener);
+
+    /**
+     * 끊긴 스트리밍 응답 이어받기 (lastEventId 이후 이벤트 재전송 후 진행 중이면 계속 전달)
+     */
+    void resumeMessageStream(String sessionId, String lastEventId, SseEmitter emitter);
 
     /**
      * 토론 요약 생성
@@ -47,7 +84,45 @@ public interface NewscussService {
     FeedbackResponseDto generateFeedback(String sessionId);
 
     /**
-     * 세션 상태 확인 (디버깅용)
+     * 토론 요약 생성 (스트리밍 방식) - 완료 시 요약을 세션에 저장하고 end 이벤트에 포함
+     */
+    void streamSummary(String sessionId, SseEmitter emitter);
+
+    /**
+     * 토론 피드백 생성 (스트리밍 방식) - 최종 피드백은 end 이벤트에 포함
+     */
+    void streamFeedback(String sessionId, SseEmitter emitter);
+
+    /**
+     * 토론 요약과 피드백을 동시에 생성하여 함께 반환
+     */
+    ReportResponseDto generateReport(String sessionId);
+
+    /**
+     * 토론 요약과 피드백을 동시에 생성하고 먼저 끝나는 것부터 스트리밍
+     */
+    void streamReport(String sessionId, SseEmitter emitter);
+
+    /**
+     * 세션의 현재 버전 (조건부 요청의 ETag 비교용)
+     */
+    long getSessionVersion(String sessionId);
+
+    /**
+     * 세션 상태 요약 (메시지 수, 버전, 마지막 활동 시각)
+     */
+    SessionStatusResponseDto getSessionStatus(String sessionId);
+
+    /**
+     * 대화 기록 페이지 조회
+     *
+     * @param after 건너뛸 앞쪽 메시지 수 (이전 응답의 nextCursor)
+     * @param limit 최대 메시지 수
+     */
+    SessionMessagesResponseDto getSessionMessages(String sessionId, int after, int limit);
+
+    /**
+     * 세션 전체를 JSON으로 출력 (디버깅용)
      */
-    String getSessionStatus(String sessionId);
+    void writeSession(String sessionId, OutputStream outputStream) throws IOException;
 }
\ No newline at end of file
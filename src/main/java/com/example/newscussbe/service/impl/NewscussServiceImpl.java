@@ -1,40 +1,58 @@
 package com.example.newscussbe.service.impl;
 
 import com.example.newscussbe.client.PythonApiClient;
+import com.example.newscussbe.dedup.ArticleIndex;
+import com.example.newscussbe.digest.DigestPipeline;
+import com.example.newscussbe.dto.BatchUrlItemResponseDto;
 import com.example.newscussbe.dto.DiscussionResponseDto;
 import com.example.newscussbe.dto.FeedbackResponseDto;
 import com.example.newscussbe.dto.KeywordSummaryResponseDto;
 import com.example.newscussbe.dto.Message;
 import com.example.newscussbe.dto.MessageResponseDto;
+import com.example.newscussbe.dto.ReportResponseDto;
+import com.example.newscussbe.dto.SessionMessagesResponseDto;
+import com.example.newscussbe.dto.SessionStatusResponseDto;
 import com.example.newscussbe.dto.SummaryResponseDto;
 import com.example.newscussbe.dto.TopicResponseDto;
+import com.example.newscussbe.keyword.ArticleFetcher;
+import com.example.newscussbe.keyword.KeywordExtractor;
 import com.example.newscussbe.service.NewscussService;
+import com.example.newscussbe.session.IdempotencyKeyIndex;
+import com.example.newscussbe.session.PendingTopic;
+import com.example.newscussbe.session.SessionData;
+import com.example.newscussbe.session.SessionIdGenerator;
+import com.example.newscussbe.session.SessionStore;
+import com.example.newscussbe.stream.PythonStreamRelay;
+import com.example.newscussbe.stream.ReplayableStream;
+import com.example.newscussbe.stream.SseEmitterListener;
+import com.example.newscussbe.stream.StreamListener;
+import com.example.newscussbe.stream.StreamRegistry;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import org.springframework.web.client.RequestCallback;
-import org.springframework.web.client.ResponseExtractor;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.UUID;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
-import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Slf4j
@@ -44,46 +62,292 @@ public class NewscussServiceImpl implements NewscussService {
 
     private final PythonApiClient pythonApiClient;
     private final ObjectMapper objectMapper;
-    private final RestTemplate restTemplate;
+    private final MeterRegistry meterRegistry;
+    private final SessionStore sessionStore;
+    private final SessionIdGenerator sessionIdGenerator;
+    private final StreamRegistry streamRegistry;
+    private final IdempotencyKeyIndex idempotencyKeyIndex;
+    private final PythonStreamRelay pythonStreamRelay;
+    private final DigestPipeline digestPipeline;
+    private final ArticleIndex articleIndex;
+    private final ArticleFetcher articleFetcher;
+    private final KeywordExtractor keywordExtractor;
 
-    @Value("${python.api.base-url}")
-    private String pythonApiBaseUrl;
+    @Qualifier("llmTaskExecutor")
+    private final Executor llmTaskExecutor;
 
-    // 세션 데이터 저장을 위한 ConcurrentHashMap
-    private final ConcurrentHashMap<String, SessionData> sessionStore = new ConcurrentHashMap<>();
+    @Qualifier("streamTaskExecutor")
+    private final Executor streamTaskExecutor;
+
+    @Qualifier("articleFetchExecutor")
+    private final Executor articleFetchExecutor;
+
+    @Value("${newscuss.speculation.topic.enabled:false}")
+    private boolean topicSpeculationEnabled;
+
+    @Value("${newscuss.speculation.topic.wait-millis:10000}")
+    private long topicSpeculationWaitMillis;
+
+    @Value("${newscuss.batch.parallelism:4}")
+    private int batchParallelism;
+
+    @Value("${newscuss.batch.max-urls:100}")
+    private int batchMaxUrls;
+
+    @Value("${newscuss.session.inspection.max-page-size:200}")
+    private int maxMessagePageSize;
 
     @Override
     public KeywordSummaryResponseDto processUrl(String url) {
+        return processUrl(url, topicSpeculationEnabled);
+    }
+
+    private KeywordSummaryResponseDto processUrl(String url, boolean speculateTopic) {
         log.info("Processing URL: {}", url);
 
-        // 세션 ID 생성
-        String sessionId = UUID.randomUUID().toString();
+        // 세션 ID 생성 (소유 노드 포함)
+        String sessionId = sessionIdGenerator.newSessionId();
 
-        // Python API 호출: URL에서 키워드와 요약 추출
-        KeywordSummaryResponseDto result = pythonApiClient.extractKeywordsAndSummary(url);
+        // 같은 URL 또는 내용이 거의 같은 기사를 최근에 처리했다면 그 결과를 재사용
+        ArticleIndex.Article article = articleIndex.findByUrl(url).orElse(null);
+        if (article == null) {
+            // Python API 호출: URL에서 키워드와 요약 추출
+            article = articleIndex.register(url, pythonApiClient.extractKeywordsAndSummary(url));
+        }
+        KeywordSummaryResponseDto result = article.extraction();
         result.setSessionId(sessionId);
 
         // 세션 데이터 저장
         SessionData sessionData = new SessionData();
         sessionData.setSummary(result.getSummary());
         sessionData.setKeywords(result.getKeywords());
-        sessionStore.put(sessionId, sessionData);
+
+        // 같은 기사의 토론 주제가 이미 있으면 재사용, 없으면 다음 단계(/api/topic)를 기다리지 않고 미리 생성 시작
+        TopicResponseDto knownTopic = article.topic().orElse(null);
+        if (knownTopic != null) {
+            sessionData.setPendingTopic(new PendingTopic(
+                    result.getSummary(), result.getKeywords(), CompletableFuture.completedFuture(knownTopic)));
+        } else if (speculateTopic) {
+            sessionData.setPendingTopic(speculateTopic(result.getSummary(), result.getKeywords()));
+        }
+
+        sessionStore.save(sessionId, sessionData);
 
         return result;
     }
 
+    @Override
+    public void processUrlStream(String url, SseEmitter emitter) {
+        log.info("Processing URL progressively: {}", url);
+
+        // LLM 추출(요약 포함)과 로컬 키워드 계산을 동시에 시작하고, 로컬 키워드를 먼저 전송
+        AtomicBoolean finished = new AtomicBoolean();
+        CompletableFuture<KeywordSummaryResponseDto> extraction =
+                CompletableFuture.supplyAsync(() -> processUrl(url, topicSpeculationEnabled), llmTaskExecutor);
+
+        fetchArticle(url)
+                // 공개 주소가 아니라 받지 않은 URL은 로컬 키워드 없이 Python 측 결과만 사용
+                .thenApply(article -> article
+                        .map(fetched -> keywordExtractor.extract(fetched.title(), fetched.text()))
+                        .orElse(List.of()))
+                .whenComplete((keywords, error) -> {
+                    if (error != null) {
+                        log.warn("Local keyword extraction failed for {}: {}", url, rootMessage(error));
+                        return;
+                    }
+                    synchronized (emitter) {
+                        if (!finished.get() && !keywords.isEmpty()) {
+                            sendEvent(emitter, Map.of("type", "keywords", "source", "local", "keywords", keywords));
+                        }
+                    }
+                });
+
+        extraction.whenComplete((result, error) -> {
+            synchronized (emitter) {
+                finished.set(true);
+                Map<String, Object> payload = new LinkedHashMap<>();
+                if (error == null) {
+                    payload.put("type", "result");
+                    payload.put("sessionId", result.getSessionId());
+                    payload.put("keywords", result.getKeywords());
+                    payload.put("summary", result.getSummary());
+                } else {
+                    log.error("Error processing URL: {}", url, error);
+                    payload.put("type", "error");
+                    payload.put("message", rootMessage(error));
+                }
+                sendEvent(emitter, payload);
+                sendEvent(emitter, Map.of("type", "end"));
+                emitter.complete();
+            }
+        });
+    }
+
+    @Override
+    public void processUrlBatch(List<String> urls, SseEmitter emitter) {
+        if (urls == null || urls.isEmpty()) {
+            throw new IllegalArgumentException("No URLs given");
+        }
+        if (urls.size() > batchMaxUrls) {
+            throw new IllegalArgumentException("Too many URLs: " + urls.size() + " (max " + batchMaxUrls + ")");
+        }
+
+        log.info("Processing URL batch: {} URLs, parallelism {}", urls.size(), batchParallelism);
+
+        // 동시에 batchParallelism개까지만 실행하고, 하나가 끝날 때마다 다음 URL을 시작
+        UrlBatch batch = new UrlBatch(List.copyOf(urls), emitter);
+        int initial = Math.min(batchParallelism, urls.size());
+        for (int i = 0; i < initial; i++) {
+            launchNextBatchItem(batch);
+        }
+    }
+
+    private void launchNextBatchItem(UrlBatch batch) {
+        int index = batch.next().getAndIncrement();
+        if (index >= batch.urls().size()) {
+            return;
+        }
+        String url = batch.urls().get(index);
+
+        CompletableFuture<KeywordSummaryResponseDto> task;
+        try {
+            // 배치 처리에서는 주제 선생성을 하지 않음
+            task = CompletableFuture.supplyAsync(() -> processUrl(url, false), llmTaskExecutor);
+        } catch (Exception e) {
+            task = CompletableFuture.failedFuture(e);
+        }
+
+        task.handle((result, error) -> BatchUrlItemResponseDto.builder()
+                        .index(index)
+                        .url(url)
+                        .result(result)
+                        .error(error == null ? null : rootMessage(error))
+                        .build())
+                .thenAccept(item -> {
+                    if (item.getError() != null) {
+                        batch.failed().incrementAndGet();
+                    }
+                    sendEvent(batch.emitter(), item);
+
+                    if (batch.remaining().decrementAndGet() == 0) {
+                        log.info("URL batch completed: {} URLs, {} failed", batch.urls().size(), batch.failed().get());
+                        sendEvent(batch.emitter(), Map.of(
+                                "type", "end",
+                                "total", batch.urls().size(),
+                                "failed", batch.failed().get()));
+                        batch.emitter().complete();
+                    } else {
+                        launchNextBatchItem(batch);
+                    }
+                });
+    }
+
+    private void sendEvent(SseEmitter emitter, Object payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event()
+                        .name("message")
+                        .data(json));
+            }
+        } catch (Exception e) {
+            // 클라이언트 연결이 끊겨도 나머지 처리는 계속 진행
+            log.warn("Failed to send event: {}", e.getMessage());
+        }
+    }
+
+    // 키워드 계산용 기사 받기 (스레드가 모두 사용 중이면 로컬 키워드 없이 진행)
+    private CompletableFuture<Optional<ArticleFetcher.Article>> fetchArticle(String url) {
+        try {
+            return CompletableFuture.supplyAsync(() -> articleFetcher.fetch(url), articleFetchExecutor);
+        } catch (RejectedExecutionException e) {
+            log.info("Article fetch executor saturated, skipping local keywords for {}", url);
+            meterRegistry.counter("newscuss.keywords.fetch.rejected").increment();
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+    }
+
+    private static String rootMessage(Throwable error) {
+        Throwable cause = error;
+        while (cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    /**
+     * 토론 주제 생성을 백그라운드에서 미리 시작
+     */
+    private PendingTopic speculateTopic(String summary, List<String> keywords) {
+        log.debug("Speculatively generating topic in background");
+        CompletableFuture<TopicResponseDto> future = CompletableFuture.supplyAsync(
+                () -> pythonApiClient.generateTopic(summary, keywords), llmTaskExecutor);
+        future.thenAccept(topic -> articleIndex.recordTopic(summary, keywords, topic));
+        return new PendingTopic(summary, keywords, future);
+    }
+
+    /**
+     * 미리 생성 중인 토론 주제를 가져옴
+     * 입력값이 다르거나 생성에 실패한 경우 null 반환 (호출 측에서 다시 생성)
+     */
+    private TopicResponseDto takeSpeculativeTopic(SessionData sessionData, String summary, List<String> keywords) {
+        PendingTopic pendingTopic = sessionData.getPendingTopic();
+        if (pendingTopic == null) {
+            return null;
+        }
+        sessionData.setPendingTopic(null);
+
+        if (!pendingTopic.matches(summary, keywords)) {
+            pendingTopic.future().cancel(false);
+            recordSpeculation("miss");
+            return null;
+        }
+
+        try {
+            TopicResponseDto topicResponse =
+                    pendingTopic.future().get(topicSpeculationWaitMillis, TimeUnit.MILLISECONDS);
+            recordSpeculation("hit");
+            return topicResponse;
+        } catch (TimeoutException e) {
+            // 대기열이나 Python 측에서 멈춘 경우 직접 호출보다 오래 기다리지 않도록 포기
+            pendingTopic.future().cancel(false);
+            log.warn("Speculative topic generation did not finish within {}ms, falling back to direct call",
+                    topicSpeculationWaitMillis);
+            recordSpeculation("timeout");
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for speculative topic", e);
+        } catch (Exception e) {
+            log.warn("Speculative topic generation failed, falling back to direct call", e);
+            recordSpeculation("failed");
+            return null;
+        }
+    }
+
+    // 적중률은 newscuss.topic.speculation 카운터의 outcome 태그별 값으로 확인 (hit/miss/timeout/failed)
+    private void recordSpeculation(String outcome) {
+        meterRegistry.counter("newscuss.topic.speculation", "outcome", outcome).increment();
+        log.debug("Topic speculation {}", outcome);
+    }
+
     @Override
     public TopicResponseDto generateTopic(String sessionId, String summary, List<String> keywords) {
         log.info("Generating topic for session: {}", sessionId);
 
         SessionData sessionData = getSessionData(sessionId);
 
-        // Python API 호출: 토론 주제 생성
-        TopicResponseDto topicResponse = pythonApiClient.generateTopic(summary, keywords);
+        // 미리 생성된 주제가 있으면 재사용, 없으면 Python API 호출: 토론 주제 생성
+        TopicResponseDto topicResponse = takeSpeculativeTopic(sessionData, summary, keywords);
+        if (topicResponse == null) {
+            topicResponse = pythonApiClient.generateTopic(summary, keywords);
+            articleIndex.recordTopic(summary, keywords, topicResponse);
+        }
 
         // 세션 데이터 업데이트
         sessionData.setTopic(topicResponse.getTopic());
         sessionData.setTopicDescription(topicResponse.getDescription());
+        sessionStore.save(sessionId, sessionData);
 
         return topicResponse;
     }
@@ -104,18 +368,13 @@ public class NewscussServiceImpl implements NewscussService {
         sessionData.setAiPosition(aiPosition);
 
         // 메시지 리스트 초기화
-        sessionData.setMessages(new ArrayList<>());
+        long epoch = sessionData.resetDiscussion();
 
         // Python API 호출: 토론 시작 및 AI의 첫 메시지 얻기
         String aiFirstMessage = pythonApiClient.startDiscussion(topic, userPosition, aiPosition, difficulty);
 
         // AI 첫 메시지 저장
-        Message aiMessage = Message.builder()
-                .role("ai")
-                .content(aiFirstMessage)
-                .timestamp(LocalDateTime.now())
-                .build();
-        sessionData.getMessages().add(aiMessage);
+        appendMessage(sessionId, sessionData, epoch, "ai", aiFirstMessage);
 
         return DiscussionResponseDto.builder()
                 .aiMessage(aiFirstMessage)
@@ -124,35 +383,92 @@ public class NewscussServiceImpl implements NewscussService {
     }
 
     @Override
-    public MessageResponseDto processMessage(String sessionId, String message) {
+    public void startDiscussionStream(String sessionId, String topic, String userPosition, String difficulty,
+                                      SseEmitter emitter) {
+        log.info("Starting streaming discussion for session: {}, topic: {}, position: {}, difficulty: {}",
+                sessionId, topic, userPosition, difficulty);
+
+        SessionData sessionData = getSessionData(sessionId);
+
+        String aiPosition = "찬성".equals(userPosition) ? "반대" : "찬성";
+        sessionData.setUserPosition(userPosition);
+        sessionData.setDifficulty(difficulty);
+        sessionData.setAiPosition(aiPosition);
+        long epoch = sessionData.resetDiscussion();
+
+        // 첫 메시지도 메시지 스트림과 같은 방식으로 이어받을 수 있도록 등록
+        ReplayableStream stream = streamRegistry.start(sessionId);
+        stream.attach(new SseEmitterListener(emitter), null);
+        pythonStreamRelay.emit(stream, Map.of("type", "start", "aiPosition", aiPosition));
+
+        runStream(stream, () -> {
+            try {
+                pythonApiClient.streamDiscussionStart(topic, userPosition, aiPosition, difficulty,
+                        pythonStreamRelay.relay("start", stream, (text, endEvent) -> {
+                            appendAiMessage(sessionId, sessionData, epoch, text);
+                            return Map.of("aiPosition", aiPosition);
+                        }));
+            } catch (Exception e) {
+                log.error("💥 Error streaming discussion start", e);
+                pythonStreamRelay.fail(stream, "연결 오류가 발생했습니다", e);
+            }
+        });
+    }
+
+    @Override
+    public MessageResponseDto processMessage(String sessionId, String message, String idempotencyKey) {
+        if (idempotencyKey == null) {
+            return generateReply(sessionId, message);
+        }
+
+        // 같은 키로 반복된 요청은 진행 중이거나 끝난 응답을 그대로 반환
+        IdempotencyKeyIndex.Claim<CompletableFuture<MessageResponseDto>> claim = idempotencyKeyIndex.claim(
+                sessionId, idempotencyKey, CompletableFuture::new, future -> !future.isCompletedExceptionally());
+        CompletableFuture<MessageResponseDto> response = claim.value();
+
+        if (claim.duplicate()) {
+            log.info("Duplicate message suppressed for session: {}, key: {}", sessionId, idempotencyKey);
+            meterRegistry.counter("newscuss.idempotency.duplicates", "mode", "sync").increment();
+            try {
+                return response.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException cause ? cause : e;
+            }
+        }
+
+        try {
+            MessageResponseDto result = generateReply(sessionId, message);
+            response.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            response.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private MessageResponseDto generateReply(String sessionId, String message) {
         log.info("Processing message for session: {}", sessionId);
 
         SessionData sessionData = getSessionData(sessionId);
+        long epoch = currentEpoch(sessionData);
 
         // 사용자 메시지 저장
-        Message userMessage = Message.builder()
-                .role("user")
-                .content(message)
-                .timestamp(LocalDateTime.now())
-                .build();
-        sessionData.getMessages().add(userMessage);
+        appendMessage(sessionId, sessionData, epoch, "user", message);
 
-        // Python API 호출: 메시지에 대한 AI 응답 얻기
+        // Python API 호출: 메시지에 대한 AI 응답 얻기 (요약본과 나머지 메시지는 같은 스냅샷에서)
+        SessionData.Conversation conversation = sessionData.conversation();
         String aiResponseMessage = pythonApiClient.getAiResponse(
+                sessionId,
                 sessionData.getTopic(),
                 sessionData.getUserPosition(),
                 sessionData.getAiPosition(),
                 sessionData.getDifficulty(),
-                sessionData.getMessages()
+                conversation.digest(),
+                conversation.undigested()
         );
 
         // AI 응답 메시지 저장
-        Message aiMessage = Message.builder()
-                .role("ai")
-                .content(aiResponseMessage)
-                .timestamp(LocalDateTime.now())
-                .build();
-        sessionData.getMessages().add(aiMessage);
+        appendAiMessage(sessionId, sessionData, epoch, aiResponseMessage);
 
         return MessageResponseDto.builder()
                 .aiMessage(aiResponseMessage)
@@ -160,219 +476,280 @@ public class NewscussServiceImpl implements NewscussService {
     }
 
     @Override
-    public void processMessageStream(String sessionId, String message, SseEmitter emitter) {
+    public void processMessageStream(String sessionId, String message, String idempotencyKey, SseEmitter emitter) {
+        processMessageStream(sessionId, message, idempotencyKey, new SseEmitterListener(emitter));
+    }
+
+    @Override
+    public void processMessageStream(String sessionId, String message, String idempotencyKey,
+                                     StreamListener listener) {
         log.info("🚀 Processing streaming message for session: {}", sessionId);
 
+        // 재연결 시 이어받을 수 있도록 스트림을 등록하고 현재 연결을 붙임
+        ReplayableStream stream;
+        if (idempotencyKey == null) {
+            stream = streamRegistry.start(sessionId);
+        } else {
+            IdempotencyKeyIndex.Claim<ReplayableStream> claim = idempotencyKeyIndex.claim(
+                    sessionId, "stream:" + idempotencyKey, () -> streamRegistry.start(sessionId),
+                    existing -> !existing.isFailed());
+            stream = claim.value();
+
+            if (claim.duplicate()) {
+                // 같은 키로 반복된 요청은 진행 중인 생성에 붙어 처음부터 다시 받음
+                log.info("Duplicate stream request suppressed for session: {}, key: {}", sessionId, idempotencyKey);
+                meterRegistry.counter("newscuss.idempotency.duplicates", "mode", "stream").increment();
+                stream.attach(listener, null);
+                return;
+            }
+        }
+        stream.attach(listener, null);
+
         // 비동기로 처리
-        CompletableFuture.runAsync(() -> {
+        runStream(stream, () -> {
             try {
                 SessionData sessionData = getSessionData(sessionId);
+                long epoch = currentEpoch(sessionData);
 
                 // 사용자 메시지 저장
-                Message userMessage = Message.builder()
-                        .role("user")
-                        .content(message)
-                        .timestamp(LocalDateTime.now())
-                        .build();
-                sessionData.getMessages().add(userMessage);
+                appendMessage(sessionId, sessionData, epoch, "user", message);
 
                 // Python API 스트리밍 호출 - 최적화된 버전
-                streamFromPythonApiOptimized(sessionData, emitter);
+                streamFromPythonApiOptimized(sessionId, sessionData, epoch, stream);
 
             } catch (Exception e) {
                 log.error("💥 Error in streaming message processing", e);
-                try {
-                    // JSON 형태로 에러 데이터 전송
-                    emitter.send(SseEmitter.event()
-                            .name("message")
-                            .data("{\"type\":\"error\",\"message\":\"" + e.getMessage() + "\"}"));
-                    emitter.completeWithError(e);
-                } catch (Exception sendError) {
-                    log.error("💥 Error sending error message", sendError);
-                    emitter.completeWithError(sendError);
-                }
+                // JSON 형태로 에러 데이터 전송
+                pythonStreamRelay.fail(stream, e.getMessage(), e);
             }
         });
     }
 
+    @Override
+    public void resumeMessageStream(String sessionId, String lastEventId, SseEmitter emitter) {
+        log.info("Resuming stream for session: {} after event: {}", sessionId, lastEventId);
+
+        ReplayableStream stream = streamRegistry.find(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("No stream to resume for session: " + sessionId));
+        stream.attach(new SseEmitterListener(emitter), lastEventId);
+    }
+
     /**
      * 최적화된 스트리밍 메서드 - 안정적인 연결 관리
      */
-    private void streamFromPythonApiOptimized(SessionData sessionData, SseEmitter emitter) {
+    private void streamFromPythonApiOptimized(String sessionId, SessionData sessionData, long epoch,
+                                              ReplayableStream stream) {
         try {
-            String endpoint = pythonApiBaseUrl + "/discussion/message/stream";
-
-            Map<String, Object> requestMap = new HashMap<>();
-            requestMap.put("topic", sessionData.getTopic());
-            requestMap.put("userPosition", sessionData.getUserPosition());
-            requestMap.put("aiPosition", sessionData.getAiPosition());
-            requestMap.put("difficulty", sessionData.getDifficulty());
-            requestMap.put("messages", sessionData.getMessages());
+            log.info("📡 Starting optimized streaming for session");
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.set("Accept", "text/event-stream");
+            // 요약본과 나머지 메시지는 같은 스냅샷에서 (그 사이 요약본이 갱신되면 메시지가 빠지거나 겹침)
+            SessionData.Conversation conversation = sessionData.conversation();
+            pythonApiClient.streamAiResponse(
+                    sessionId,
+                    sessionData.getTopic(),
+                    sessionData.getUserPosition(),
+                    sessionData.getAiPosition(),
+                    sessionData.getDifficulty(),
+                    conversation.digest(),
+                    conversation.undigested(),
+                    pythonStreamRelay.relay("message", stream, (text, endEvent) -> {
+                        appendAiMessage(sessionId, sessionData, epoch, text);
+                        return Map.of();
+                    })
+            );
 
-            HttpEntity<Map<String, Object>> request = new HttpEntity<>(requestMap, headers);
+        } catch (Exception e) {
+            log.error("💥 Error streaming from Python API", e);
+            pythonStreamRelay.fail(stream, "연결 오류가 발생했습니다", e);
+        }
+    }
 
-            log.info("📡 Starting optimized streaming for session");
+    // 스트리밍 중계 실행 (스레드가 모두 사용 중이면 에러 이벤트로 종료)
+    private void runStream(ReplayableStream stream, Runnable task) {
+        try {
+            CompletableFuture.runAsync(task, streamTaskExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Stream executor saturated, rejecting stream {}", stream.streamId());
+            meterRegistry.counter("newscuss.stream.rejected").increment();
+            pythonStreamRelay.fail(stream, "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요", e);
+        }
+    }
 
-            RequestCallback requestCallback = restTemplate.httpEntityCallback(request, String.class);
+    // AI 메시지를 세션에 추가하고 저장
+    private void appendAiMessage(String sessionId, SessionData sessionData, long epoch, String content) {
+        if (appendMessage(sessionId, sessionData, epoch, "ai", content)) {
+            digestPipeline.onTurnCompleted(sessionId);
+        }
+    }
 
-            ResponseExtractor<Void> responseExtractor = response -> {
-                StringBuilder accumulatedMessage = new StringBuilder();
-                boolean hasCompleted = false;
+    // 메시지를 현재 토론에 추가하고 저장 (그 사이 토론이 다시 시작되었으면 이전 토론의 메시지이므로 버림)
+    private boolean appendMessage(String sessionId, SessionData sessionData, long epoch, String role, String content) {
+        Message message = Message.builder()
+                .role(role)
+                .content(content)
+                .timestamp(LocalDateTime.now())
+                .build();
+        if (!sessionData.appendMessage(epoch, message)) {
+            log.info("Discarding {} message for session {}: discussion was restarted", role, sessionId);
+            return false;
+        }
+        sessionStore.save(sessionId, sessionData);
+        return true;
+    }
 
-                try (BufferedReader reader = new BufferedReader(new InputStreamReader(response.getBody()))) {
-                    String line;
+    private static long currentEpoch(SessionData sessionData) {
+        if (sessionData.getMessages() == null) {
+            throw new IllegalArgumentException("Discussion not started");
+        }
+        return sessionData.getDiscussionEpoch();
+    }
 
-                    while ((line = reader.readLine()) != null && !hasCompleted) {
-                        if (line.trim().isEmpty()) {
-                            continue;
-                        }
+    @Override
+    public SummaryResponseDto generateSummary(String sessionId) {
+        log.info("Generating summary for session: {}", sessionId);
 
-                        if (line.startsWith("data: ")) {
-                            String jsonData = line.substring(6).trim();
-
-                            if (jsonData.isEmpty() || jsonData.equals("{}")) {
-                                continue;
-                            }
-
-                            try {
-                                JsonNode dataNode = objectMapper.readTree(jsonData);
-                                String type = dataNode.get("type").asText();
-
-                                if ("chunk".equals(type)) {
-                                    String content = dataNode.get("content").asText();
-                                    accumulatedMessage.append(content);
-
-                                    // 청크만 전송
-                                    String chunkJson = String.format(
-                                            "{\"type\":\"chunk\",\"content\":\"%s\"}",
-                                            content.replace("\"", "\\\"").replace("\n", "\\n").replace("\r", "")
-                                    );
-
-                                    emitter.send(SseEmitter.event()
-                                            .name("message")
-                                            .data(chunkJson));
-
-                                } else if ("end".equals(type)) {
-                                    String finalMessage = dataNode.has("final_message")
-                                            ? dataNode.get("final_message").asText()
-                                            : accumulatedMessage.toString();
-
-                                    log.info("🏁 Stream completed. Message length: {}", finalMessage.length());
-
-                                    // 세션에 저장
-                                    Message aiMessage = Message.builder()
-                                            .role("ai")
-                                            .content(finalMessage)
-                                            .timestamp(LocalDateTime.now())
-                                            .build();
-                                    sessionData.getMessages().add(aiMessage);
-
-                                    // 완료 신호 전송
-                                    emitter.send(SseEmitter.event()
-                                            .name("message")
-                                            .data("{\"type\":\"end\"}"));
-
-                                    hasCompleted = true;
-                                    emitter.complete();
-                                    return null;
-
-                                } else if ("error".equals(type)) {
-                                    String errorMessage = dataNode.get("message").asText();
-                                    log.error("❌ Error from Python API: {}", errorMessage);
-
-                                    String errorJson = String.format(
-                                            "{\"type\":\"error\",\"message\":\"%s\"}",
-                                            errorMessage.replace("\"", "\\\"")
-                                    );
-
-                                    emitter.send(SseEmitter.event()
-                                            .name("message")
-                                            .data(errorJson));
-
-                                    hasCompleted = true;
-                                    emitter.completeWithError(new RuntimeException(errorMessage));
-                                    return null;
-                                }
-
-                            } catch (Exception parseError) {
-                                log.error("🚫 Error parsing SSE data: {}", jsonData, parseError);
-                                // 파싱 에러는 무시하고 계속 진행
-                                continue;
-                            }
-                        }
-                    }
+        return summarize(snapshotOf(getSessionData(sessionId)));
+    }
 
-                    // 정상적으로 완료되지 않은 경우 강제 완료
-                    if (!hasCompleted && accumulatedMessage.length() > 0) {
-                        log.warn("⚠️ Stream ended without proper completion signal, forcing completion");
+    @Override
+    public FeedbackResponseDto generateFeedback(String sessionId) {
+        log.info("Generating feedback for session: {}", sessionId);
 
-                        String finalMessage = accumulatedMessage.toString();
+        return evaluate(snapshotOf(getSessionData(sessionId)));
+    }
 
-                        Message aiMessage = Message.builder()
-                                .role("ai")
-                                .content(finalMessage)
-                                .timestamp(LocalDateTime.now())
-                                .build();
-                        sessionData.getMessages().add(aiMessage);
+    @Override
+    public void streamSummary(String sessionId, SseEmitter emitter) {
+        log.info("Streaming summary for session: {}", sessionId);
 
-                        emitter.send(SseEmitter.event()
-                                .name("message")
-                                .data("{\"type\":\"end\"}"));
-                    }
+        DiscussionSnapshot snapshot = snapshotOf(getSessionData(sessionId));
+        ReplayableStream stream = streamRegistry.detached();
+        stream.attach(new SseEmitterListener(emitter), null);
 
-                    if (!hasCompleted) {
-                        emitter.complete();
-                    }
+        runStream(stream, () -> {
+            try {
+                pythonApiClient.streamSummary(
+                        snapshot.topic(), snapshot.userPosition(), snapshot.aiPosition(), snapshot.digest(),
+                        snapshot.messages(),
+                        pythonStreamRelay.relay("summary", stream, (text, endEvent) -> {
+                            SessionData sessionData = getSessionData(sessionId);
+                            sessionData.setDiscussionSummary(text);
+                            sessionStore.save(sessionId, sessionData);
+                            return Map.of("summary", text);
+                        }));
+            } catch (Exception e) {
+                log.error("💥 Error streaming summary", e);
+                pythonStreamRelay.fail(stream, "연결 오류가 발생했습니다", e);
+            }
+        });
+    }
 
-                } catch (Exception streamError) {
-                    log.error("💥 Error in stream processing", streamError);
-                    if (!hasCompleted) {
-                        try {
-                            emitter.send(SseEmitter.event()
-                                    .name("message")
-                                    .data("{\"type\":\"error\",\"message\":\"스트리밍 처리 중 오류가 발생했습니다\"}"));
-                            emitter.completeWithError(streamError);
-                        } catch (Exception e) {
-                            log.error("Failed to send error message", e);
-                            emitter.completeWithError(streamError);
-                        }
-                    }
-                }
+    @Override
+    public void streamFeedback(String sessionId, SseEmitter emitter) {
+        log.info("Streaming feedback for session: {}", sessionId);
 
-                return null;
-            };
+        DiscussionSnapshot snapshot = snapshotOf(getSessionData(sessionId));
+        ReplayableStream stream = streamRegistry.detached();
+        stream.attach(new SseEmitterListener(emitter), null);
 
-            restTemplate.execute(endpoint, HttpMethod.POST, requestCallback, responseExtractor);
+        if (!hasEnoughUserMessages(snapshot)) {
+            pythonStreamRelay.complete(stream, Map.of("feedback", defaultFeedback()));
+            return;
+        }
 
-        } catch (Exception e) {
-            log.error("💥 Error streaming from Python API", e);
+        runStream(stream, () -> {
             try {
-                emitter.send(SseEmitter.event()
-                        .name("message")
-                        .data("{\"type\":\"error\",\"message\":\"연결 오류가 발생했습니다\"}"));
-                emitter.completeWithError(e);
-            } catch (Exception sendError) {
-                log.error("💥 Error sending error message", sendError);
-                emitter.completeWithError(e);
+                pythonApiClient.streamFeedback(
+                        snapshot.topic(), snapshot.userPosition(), snapshot.aiPosition(), snapshot.digest(),
+                        snapshot.messages(),
+                        pythonStreamRelay.relay("feedback", stream, (text, endEvent) -> {
+                            // 최종 피드백은 end 이벤트에 실려 오며, 없으면 누적된 텍스트를 JSON으로 해석
+                            JsonNode feedback = endEvent != null && endEvent.has("feedback")
+                                    ? endEvent.get("feedback")
+                                    : objectMapper.readTree(text);
+                            return Map.of("feedback", objectMapper.convertValue(feedback, Map.class));
+                        }));
+            } catch (Exception e) {
+                log.error("💥 Error streaming feedback", e);
+                pythonStreamRelay.fail(stream, "연결 오류가 발생했습니다", e);
             }
+        });
+    }
+
+    @Override
+    public ReportResponseDto generateReport(String sessionId) {
+        log.info("Generating report for session: {}", sessionId);
+
+        // 하나의 대화 기록 스냅샷으로 요약과 피드백을 동시에 생성
+        DiscussionSnapshot snapshot = snapshotOf(getSessionData(sessionId));
+        CompletableFuture<SummaryResponseDto> summary =
+                CompletableFuture.supplyAsync(() -> summarize(snapshot), llmTaskExecutor);
+        CompletableFuture<FeedbackResponseDto> feedback =
+                CompletableFuture.supplyAsync(() -> evaluate(snapshot), llmTaskExecutor);
+
+        try {
+            return ReportResponseDto.builder()
+                    .summary(summary.join().getSummary())
+                    .feedback(feedback.join().getFeedback())
+                    .build();
+        } catch (CompletionException e) {
+            summary.cancel(false);
+            feedback.cancel(false);
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
         }
     }
+
     @Override
-    public SummaryResponseDto generateSummary(String sessionId) {
-        log.info("Generating summary for session: {}", sessionId);
+    public void streamReport(String sessionId, SseEmitter emitter) {
+        log.info("Streaming report for session: {}", sessionId);
+
+        DiscussionSnapshot snapshot = snapshotOf(getSessionData(sessionId));
+
+        // 먼저 끝나는 쪽부터 전송
+        CompletableFuture<Void> summary = CompletableFuture
+                .supplyAsync(() -> summarize(snapshot), llmTaskExecutor)
+                .handle((result, error) -> {
+                    sendReportEvent(emitter, error == null
+                            ? Map.of("type", "summary", "summary", Objects.requireNonNullElse(result.getSummary(), ""))
+                            : Map.of("type", "error", "part", "summary", "message", rootMessage(error)));
+                    return null;
+                });
+        CompletableFuture<Void> feedback = CompletableFuture
+                .supplyAsync(() -> evaluate(snapshot), llmTaskExecutor)
+                .handle((result, error) -> {
+                    sendReportEvent(emitter, error == null
+                            ? Map.of("type", "feedback", "feedback", Objects.requireNonNullElse(result.getFeedback(), Map.of()))
+                            : Map.of("type", "error", "part", "feedback", "message", rootMessage(error)));
+                    return null;
+                });
+
+        CompletableFuture.allOf(summary, feedback).whenComplete((v, error) -> {
+            sendReportEvent(emitter, Map.of("type", "end"));
+            emitter.complete();
+        });
+    }
 
-        SessionData sessionData = getSessionData(sessionId);
+    private void sendReportEvent(SseEmitter emitter, Map<String, Object> payload) {
+        try {
+            String json = objectMapper.writeValueAsString(payload);
+            synchronized (emitter) {
+                emitter.send(SseEmitter.event()
+                        .name("message")
+                        .data(json));
+            }
+        } catch (Exception e) {
+            log.warn("Failed to send report event: {}", e.getMessage());
+        }
+    }
 
+    private SummaryResponseDto summarize(DiscussionSnapshot snapshot) {
         // Python API 호출: 토론 요약 생성
         String summary = pythonApiClient.generateSummary(
-                sessionData.getTopic(),
-                sessionData.getUserPosition(),
-                sessionData.getAiPosition(),
-                sessionData.getMessages()
+                snapshot.topic(),
+                snapshot.userPosition(),
+                snapshot.aiPosition(),
+                snapshot.digest(),
+                snapshot.messages()
         );
 
         return SummaryResponseDto.builder()
@@ -380,41 +757,21 @@ public class NewscussServiceImpl implements NewscussService {
                 .build();
     }
 
-    @Override
-    public FeedbackResponseDto generateFeedback(String sessionId) {
-        log.info("Generating feedback for session: {}", sessionId);
-
-        SessionData sessionData = getSessionData(sessionId);
-
-        // 메시지가 충분히 있는지 확인 (최소 2개 이상의 사용자 메시지)
-        long userMessageCount = sessionData.getMessages().stream()
-                .filter(msg -> "user".equals(msg.getRole()))
-                .count();
-
-        if (userMessageCount < 2) {
-            log.warn("Insufficient user messages for feedback generation: {}", userMessageCount);
+    private FeedbackResponseDto evaluate(DiscussionSnapshot snapshot) {
+        if (!hasEnoughUserMessages(snapshot)) {
             // 기본 피드백 반환
-            Map<String, Object> defaultFeedback = Map.of(
-                    "논리적_사고력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
-                    "근거와_증거_활용", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
-                    "의사소통_능력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
-                    "토론_태도와_매너", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
-                    "창의성과_통찰력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
-                    "총점", 50,
-                    "종합_코멘트", "더 활발한 토론 참여를 통해 다양한 능력을 보여주세요!"
-            );
-
             return FeedbackResponseDto.builder()
-                    .feedback(defaultFeedback)
+                    .feedback(defaultFeedback())
                     .build();
         }
 
         // Python API 호출: 토론 피드백 생성
         Map<String, Object> feedback = pythonApiClient.generateFeedback(
-                sessionData.getTopic(),
-                sessionData.getUserPosition(),
-                sessionData.getAiPosition(),
-                sessionData.getMessages()
+                snapshot.topic(),
+                snapshot.userPosition(),
+                snapshot.aiPosition(),
+                snapshot.digest(),
+                snapshot.messages()
         );
 
         return FeedbackResponseDto.builder()
@@ -422,39 +779,130 @@ public class NewscussServiceImpl implements NewscussService {
                 .build();
     }
 
-    @Override
-    public String getSessionStatus(String sessionId) {
-        SessionData sessionData = sessionStore.get(sessionId);
-        if (sessionData == null) {
-            return "Session not found";
+    // 메시지가 충분히 있는지 확인 (최소 2개 이상의 사용자 메시지)
+    private static boolean hasEnoughUserMessages(DiscussionSnapshot snapshot) {
+        long userMessageCount = snapshot.userMessageCount();
+        if (userMessageCount < 2) {
+            log.warn("Insufficient user messages for feedback generation: {}", userMessageCount);
+            return false;
         }
+        return true;
+    }
 
-        try {
-            return objectMapper.writeValueAsString(sessionData);
-        } catch (Exception e) {
-            log.error("Error serializing session data", e);
-            return "Error getting session data: " + e.getMessage();
+    private static Map<String, Object> defaultFeedback() {
+        return Map.of(
+                "논리적_사고력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
+                "근거와_증거_활용", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
+                "의사소통_능력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
+                "토론_태도와_매너", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
+                "창의성과_통찰력", Map.of("점수", 50, "코멘트", "토론 참여가 부족하여 정확한 평가가 어렵습니다"),
+                "총점", 50,
+                "종합_코멘트", "더 활발한 토론 참여를 통해 다양한 능력을 보여주세요!"
+        );
+    }
+
+    private DiscussionSnapshot snapshotOf(SessionData sessionData) {
+        SessionData.Conversation conversation = sessionData.conversation();
+        long userMessageCount = conversation.messages().stream()
+                .filter(msg -> "user".equals(msg.getRole()))
+                .count();
+
+        // 요약본이 있으면 요약본 + 반영되지 않은 메시지만 전송
+        return new DiscussionSnapshot(
+                sessionData.getTopic(),
+                sessionData.getUserPosition(),
+                sessionData.getAiPosition(),
+                conversation.digest(),
+                conversation.undigested(),
+                userMessageCount);
+    }
+
+    @Override
+    public long getSessionVersion(String sessionId) {
+        return getSessionData(sessionId).getVersion();
+    }
+
+    @Override
+    public SessionStatusResponseDto getSessionStatus(String sessionId) {
+        SessionData sessionData = getSessionData(sessionId);
+        // 버전을 먼저 읽어 두면 ETag가 본문보다 오래될 수는 있어도 새로울 수는 없음 (다음 조회에서 갱신됨)
+        long version = sessionData.getVersion();
+
+        SessionData.Conversation conversation = sessionData.conversation();
+        List<Message> messages = conversation.messages();
+        int userMessageCount = (int) messages.stream()
+                .filter(msg -> "user".equals(msg.getRole()))
+                .count();
+
+        return SessionStatusResponseDto.builder()
+                .sessionId(sessionId)
+                .version(version)
+                .lastActivityAt(sessionData.getLastActivityAt())
+                .topic(sessionData.getTopic())
+                .userPosition(sessionData.getUserPosition())
+                .aiPosition(sessionData.getAiPosition())
+                .difficulty(sessionData.getDifficulty())
+                .messageCount(messages.size())
+                .userMessageCount(userMessageCount)
+                .hasDigest(conversation.digest() != null)
+                .hasDiscussionSummary(sessionData.getDiscussionSummary() != null)
+                .build();
+    }
+
+    @Override
+    public SessionMessagesResponseDto getSessionMessages(String sessionId, int after, int limit) {
+        if (after < 0) {
+            throw new IllegalArgumentException("after must not be negative: " + after);
         }
+        if (limit < 1 || limit > maxMessagePageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxMessagePageSize + ": " + limit);
+        }
+
+        SessionData sessionData = getSessionData(sessionId);
+        long version = sessionData.getVersion();
+
+        // 메시지는 뒤에 추가되기만 하므로 after가 같으면 같은 메시지부터 시작
+        List<Message> messages = sessionData.conversation().messages();
+        int total = messages.size();
+        int from = Math.min(after, total);
+        List<Message> page = List.copyOf(messages.subList(from, Math.min(from + limit, total)));
+        int nextCursor = from + page.size();
+
+        return SessionMessagesResponseDto.builder()
+                .sessionId(sessionId)
+                .version(version)
+                .total(total)
+                .nextCursor(nextCursor)
+                .hasMore(nextCursor < total)
+                .messages(page)
+                .build();
+    }
+
+    @Override
+    public void writeSession(String sessionId, OutputStream outputStream) throws IOException {
+        SessionData sessionData = getSessionData(sessionId);
+        // 응답 스트림에 바로 직렬화 (큰 세션도 문자열로 만들지 않음), 스트림은 호출한 쪽에서 닫음
+        objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .writeValue(outputStream, sessionData);
     }
 
     private SessionData getSessionData(String sessionId) {
-        SessionData sessionData = sessionStore.get(sessionId);
-        if (sessionData == null) {
-            throw new IllegalArgumentException("Session not found: " + sessionId);
+        return sessionStore.find(sessionId)
+                .orElseThrow(() -> new IllegalArgumentException("Session not found: " + sessionId));
+    }
+
+    // 요약/피드백 생성을 위한 변경 불가능한 대화 기록 스냅샷
+    record DiscussionSnapshot(String topic, String userPosition, String aiPosition, String digest,
+                              List<Message> messages, long userMessageCount) {
+    }
+
+    // 진행 중인 URL 배치 처리 상태
+    record UrlBatch(List<String> urls, SseEmitter emitter,
+                    AtomicInteger next, AtomicInteger remaining, AtomicInteger failed) {
+
+        UrlBatch(List<String> urls, SseEmitter emitter) {
+            this(urls, emitter, new AtomicInteger(), new AtomicInteger(urls.size()), new AtomicInteger());
         }
-        return sessionData;
-    }
-
-    // 세션 데이터 내부 클래스
-    @Data
-    static class SessionData {
-        private String summary;
-        private List<String> keywords;
-        private String topic;
-        private String topicDescription;
-        private String userPosition;
-        private String aiPosition;
-        private String difficulty;
-        private List<Message> messages;
     }
 }
\ No newline at end of file
@@ -0,0 +1,255 @@
+package com.example.newscussbe.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 여러 노드가 공유하는 파일 기반 세션 저장소
+ * - 모든 변경은 공유 디렉토리에 기록 (write-through)
+ * - 이 노드가 소유한 세션은 메모리에 캐시하되, 조회할 때 파일이 바뀌었으면(수정 시각, 파일 키) 다시 읽음
+ *   (다른 노드가 저장한 턴을 놓치지 않음), 다른 노드의 세션은 매번 공유 디렉토리에서 읽음
+ * - 저장은 세션별 파일 잠금 안에서 버전을 비교하여, 그 사이 다른 곳에서 저장된 세션을 덮어쓰지 않음
+ * - cache-idle-millis 동안 조회하지 않은 캐시는 내리고, expire-millis 동안 저장되지 않은 세션 파일은 삭제
+ * 공유 세션 계층의 기준 구현이자 테스트용 대체 구현
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "newscuss.session.store", havingValue = "file")
+public class FileSessionStore implements SessionStore {
+
+    private static final Pattern SAFE_SESSION_ID = Pattern.compile("[A-Za-z0-9-]+(\\.[A-Za-z0-9-]+)?");
+    private static final int LOCK_STRIPES = 64;
+
+    private final ObjectMapper objectMapper;
+    private final SessionIdGenerator sessionIdGenerator;
+    private final Path directory;
+    private final long cacheIdleMillis;
+    private final long expireMillis;
+
+    private final ConcurrentHashMap<String, Cached> ownedSessions = new ConcurrentHashMap<>();
+    // 같은 JVM 안에서는 파일 잠금이 겹칠 수 없으므로 먼저 세션별(스트라이프) 모니터로 직렬화
+    private final Object[] saveLocks = new Object[LOCK_STRIPES];
+
+    public FileSessionStore(ObjectMapper objectMapper, SessionIdGenerator sessionIdGenerator,
+                            @Value("${newscuss.session.file.directory}") String directory,
+                            @Value("${newscuss.session.file.cache-idle-millis:1800000}") long cacheIdleMillis,
+                            @Value("${newscuss.session.file.expire-millis:86400000}") long expireMillis)
+            throws IOException {
+        this.objectMapper = objectMapper;
+        this.sessionIdGenerator = sessionIdGenerator;
+        this.directory = Files.createDirectories(Paths.get(directory));
+        this.cacheIdleMillis = cacheIdleMillis;
+        this.expireMillis = expireMillis;
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            saveLocks[i] = new Object();
+        }
+        log.info("Using shared file session store at {} (node: {})", this.directory, sessionIdGenerator.nodeId());
+    }
+
+    @Override
+    public Optional<SessionData> find(String sessionId) {
+        if (!SAFE_SESSION_ID.matcher(sessionId).matches()) {
+            return Optional.empty();
+        }
+
+        boolean local = sessionIdGenerator.isLocal(sessionId);
+        Path file = fileOf(sessionId);
+        FileStamp stamp = FileStamp.of(file);
+        if (stamp == null) {
+            // 다른 노드가 삭제했거나 만료됨
+            ownedSessions.remove(sessionId);
+            return Optional.empty();
+        }
+
+        if (local) {
+            Cached cached = ownedSessions.get(sessionId);
+            if (cached != null && cached.stamp.equals(stamp)) {
+                cached.lastAccessMillis = System.currentTimeMillis();
+                return Optional.of(cached.data);
+            }
+        }
+
+        SessionData sessionData = read(sessionId, file);
+        if (sessionData == null) {
+            return Optional.empty();
+        }
+        if (!local) {
+            log.debug("Fetched session {} owned by node {}", sessionId, sessionIdGenerator.ownerOf(sessionId));
+            return Optional.of(sessionData);
+        }
+
+        // 재시작했거나 다른 노드가 저장한 경우: 파일의 버전이 더 새로우면 캐시를 교체
+        Cached result = ownedSessions.compute(sessionId, (key, current) -> {
+            if (current == null || sessionData.getVersion() > current.data.getVersion()) {
+                return new Cached(sessionData, stamp);
+            }
+            if (sessionData.getVersion() == current.data.getVersion()) {
+                return new Cached(current.data, stamp);
+            }
+            // 이 노드가 방금 더 새로운 버전을 저장함 (다음 조회에서 다시 확인)
+            return current;
+        });
+        return Optional.of(result.data);
+    }
+
+    @Override
+    public void save(String sessionId, SessionData sessionData) {
+        if (!SAFE_SESSION_ID.matcher(sessionId).matches()) {
+            throw new IllegalArgumentException("Invalid session id: " + sessionId);
+        }
+
+        Path file = fileOf(sessionId);
+        synchronized (saveLocks[Math.floorMod(sessionId.hashCode(), LOCK_STRIPES)]) {
+            try (FileChannel channel = FileChannel.open(directory.resolve(sessionId + ".lock"),
+                    StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+                 FileLock ignored = channel.lock()) {
+
+                // 이 객체를 읽은 뒤 다른 노드(또는 다시 읽힌 사본)가 저장했으면 덮어쓰지 않음
+                long storedVersion = storedVersion(file);
+                if (storedVersion > sessionData.getVersion()) {
+                    throw new IllegalStateException("Session " + sessionId + " was modified concurrently"
+                            + " (stored version " + storedVersion + ", saving version " + sessionData.getVersion() + ")");
+                }
+                sessionData.touch();
+
+                // 임시 파일에 쓴 뒤 교체하여 다른 노드가 반쯤 쓰인 파일을 읽지 않도록 함
+                Path temp = Files.createTempFile(directory, sessionId, ".tmp");
+                objectMapper.writeValue(temp.toFile(), sessionData);
+                Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+                if (sessionIdGenerator.isLocal(sessionId)) {
+                    ownedSessions.put(sessionId, new Cached(sessionData, FileStamp.of(file)));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to write session: " + sessionId, e);
+            }
+        }
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        ownedSessions.remove(sessionId);
+        if (!SAFE_SESSION_ID.matcher(sessionId).matches()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(fileOf(sessionId));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to delete session: " + sessionId, e);
+        }
+    }
+
+    /**
+     * 오래 조회하지 않은 캐시를 내리고, 오래 저장되지 않은 세션 파일과 남은 임시/잠금 파일 삭제
+     * 파일 삭제는 수정 시각 기준이므로 어느 노드가 실행해도 결과가 같음
+     */
+    @Scheduled(fixedDelayString = "${newscuss.session.file.cleanup-interval-millis:300000}")
+    public void evictExpired() {
+        long now = System.currentTimeMillis();
+        ownedSessions.values().removeIf(cached -> now - cached.lastAccessMillis > cacheIdleMillis);
+
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                try {
+                    if (isExpired(file, now) && Files.deleteIfExists(file)) {
+                        deleted++;
+                    }
+                } catch (NoSuchFileException e) {
+                    // 다른 노드가 먼저 삭제함
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Failed to clean up session directory {}: {}", directory, e.getMessage());
+        }
+        if (deleted > 0) {
+            log.info("Deleted {} expired session files", deleted);
+        }
+    }
+
+    // 잠금 파일은 저장할 때 수정 시각이 바뀌지 않으므로 세션 파일이 없어진 뒤에만 삭제
+    private boolean isExpired(Path file, long now) throws IOException {
+        if (now - Files.getLastModifiedTime(file).toMillis() <= expireMillis) {
+            return false;
+        }
+        String name = file.getFileName().toString();
+        return !name.endsWith(".lock")
+                || !Files.exists(directory.resolve(name.substring(0, name.length() - ".lock".length()) + ".json"));
+    }
+
+    private SessionData read(String sessionId, Path file) {
+        try {
+            return objectMapper.readValue(file.toFile(), SessionData.class);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read session: " + sessionId, e);
+        }
+    }
+
+    // 저장된 세션의 버전 (파일이 없으면 0)
+    private long storedVersion(Path file) throws IOException {
+        try {
+            return objectMapper.readTree(file.toFile()).path("version").asLong(0);
+        } catch (NoSuchFileException e) {
+            return 0;
+        }
+    }
+
+    private Path fileOf(String sessionId) {
+        return directory.resolve(sessionId + ".json");
+    }
+
+    /**
+     * 세션 파일 식별 정보: 저장할 때마다 새 파일로 교체하므로 수정 시각이 같아도 파일 키(inode 등)가 바뀜
+     * (파일 키를 지원하지 않는 파일 시스템에서는 수정 시각만 비교)
+     */
+    private record FileStamp(FileTime modified, Object fileKey) {
+
+        // 파일이 없으면 null
+        static FileStamp of(Path file) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+                return new FileStamp(attributes.lastModifiedTime(), attributes.fileKey());
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 소유 세션 캐시 항목
+     */
+    private static final class Cached {
+
+        private final SessionData data;
+        // 캐시한 내용에 해당하는 파일 (다르면 다른 노드가 저장한 것)
+        private final FileStamp stamp;
+        private volatile long lastAccessMillis = System.currentTimeMillis();
+
+        private Cached(SessionData data, FileStamp stamp) {
+            this.data = data;
+            this.stamp = stamp;
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.newscussbe.session;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Idempotency-Key 색인
+ * 같은 세션에서 같은 키로 반복된 요청이 이미 처리 중이거나 처리된 결과를 재사용하도록 함
+ * - 키 개수는 max-keys로 제한 (초과 시 가장 오래된 키부터 제거)
+ * - ttl-millis가 지난 키는 만료
+ */
+@Slf4j
+@Component
+public class IdempotencyKeyIndex {
+
+    private final int maxKeys;
+    private final long ttlMillis;
+
+    // 생성 순서대로 유지하여 오래된 키부터 제거
+    private final LinkedHashMap<String, Entry> entries;
+
+    public IdempotencyKeyIndex(@Value("${newscuss.idempotency.max-keys:10000}") int maxKeys,
+                               @Value("${newscuss.idempotency.ttl-millis:600000}") long ttlMillis) {
+        this.maxKeys = maxKeys;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > IdempotencyKeyIndex.this.maxKeys;
+            }
+        };
+    }
+
+    /**
+     * 키에 해당하는 값을 가져오거나 새로 등록
+     *
+     * @param factory  처음 보는 키일 때 등록할 값 생성
+     * @param reusable 기존 값을 재사용할 수 있는지 (실패한 요청은 다시 처리하도록 false 반환)
+     */
+    public synchronized <T> Claim<T> claim(String sessionId, String idempotencyKey,
+                                           Supplier<T> factory, Predicate<T> reusable) {
+        String key = sessionId + ":" + idempotencyKey;
+        long now = System.currentTimeMillis();
+
+        Entry existing = entries.get(key);
+        if (existing != null && now - existing.createdAtMillis() < ttlMillis) {
+            @SuppressWarnings("unchecked")
+            T value = (T) existing.value();
+            if (reusable.test(value)) {
+                return new Claim<>(value, true);
+            }
+        }
+
+        T value = factory.get();
+        entries.remove(key);
+        entries.put(key, new Entry(value, now));
+        return new Claim<>(value, false);
+    }
+
+    /**
+     * 만료된 키 정리
+     */
+    @Scheduled(fixedDelayString = "${newscuss.idempotency.cleanup-interval-millis:60000}")
+    public synchronized void evictExpired() {
+        long threshold = System.currentTimeMillis() - ttlMillis;
+        Iterator<Entry> iterator = entries.values().iterator();
+        while (iterator.hasNext() && iterator.next().createdAtMillis() < threshold) {
+            iterator.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * @param value     등록된 값 (진행 중이거나 끝난 응답)
+     * @param duplicate 이미 등록되어 있던 값인지
+     */
+    public record Claim<T>(T value, boolean duplicate) {
+    }
+
+    private record Entry(Object value, long createdAtMillis) {
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.newscussbe.session;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 단일 JVM 세션 저장소 (기본값)
+ */
+@Component
+@ConditionalOnProperty(name = "newscuss.session.store", havingValue = "memory", matchIfMissing = true)
+public class InMemorySessionStore implements SessionStore {
+
+    // 세션 데이터 저장을 위한 ConcurrentHashMap
+    private final ConcurrentHashMap<String, SessionData> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<SessionData> find(String sessionId) {
+        return Optional.ofNullable(sessions.get(sessionId));
+    }
+
+    @Override
+    public void save(String sessionId, SessionData sessionData) {
+        sessionData.touch();
+        sessions.put(sessionId, sessionData);
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        sessions.remove(sessionId);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.newscussbe.session;
+
+import com.example.newscussbe.dto.TopicResponseDto;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 미리 생성 중인 토론 주제와 그 입력값
+ */
+public record PendingTopic(String summary, List<String> keywords, CompletableFuture<TopicResponseDto> future) {
+
+    public boolean matches(String summary, List<String> keywords) {
+        return Objects.equals(this.summary, summary) && Objects.equals(this.keywords, keywords);
+    }
+}
@@ -0,0 +1,117 @@
+package com.example.newscussbe.session;
+
+import com.example.newscussbe.dto.Message;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import lombok.Data;
+
+/**
+ * 토론 세션 데이터
+ * 대화 기록과 요약본은 응답 생성, 스트림 완료, 요약본 갱신, 조회가 동시에 접근하므로
+ * 변경은 아래 synchronized 메서드로만 하고, 읽기는 conversation() 스냅샷을 사용
+ */
+@Data
+public class SessionData {
+    private String summary;
+    private List<String> keywords;
+    private String topic;
+    private String topicDescription;
+    private String userPosition;
+    private String aiPosition;
+    private String difficulty;
+    // 순회 중에 추가되어도 안전하도록 CopyOnWriteArrayList로 보관 (토론당 메시지 수십 개 수준)
+    private volatile List<Message> messages;
+    // 토론 요약 (스트리밍 요약 생성 완료 시 저장)
+    private String discussionSummary;
+
+    // 백그라운드에서 갱신되는 대화 요약본과 요약본에 반영된 앞쪽 메시지 수
+    // (둘을 함께 읽을 때는 conversation() 사용, getter는 직렬화용)
+    private volatile String digest;
+    private volatile int digestedMessageCount;
+
+    // 토론을 새로 시작할 때마다 증가 (이전 토론에서 늦게 도착한 메시지를 버리는 데 사용)
+    private volatile long discussionEpoch;
+
+    // 저장할 때마다 증가하는 버전 (조회 API의 ETag)과 마지막 저장 시각
+    private volatile long version;
+    private volatile LocalDateTime lastActivityAt;
+
+    // 세션을 소유한 노드에서만 유지되는 값 (공유 저장소에는 저장되지 않음)
+    @JsonIgnore
+    private PendingTopic pendingTopic;
+
+    public void setMessages(List<Message> messages) {
+        this.messages = messages == null ? null : new CopyOnWriteArrayList<>(messages);
+    }
+
+    /**
+     * 새 토론 시작: 대화 기록과 요약본을 비움
+     *
+     * @return 새 토론의 epoch (메시지 추가 시 전달)
+     */
+    public synchronized long resetDiscussion() {
+        messages = new CopyOnWriteArrayList<>();
+        digest = null;
+        digestedMessageCount = 0;
+        return ++discussionEpoch;
+    }
+
+    /**
+     * 메시지 추가 (그 사이 토론이 다시 시작되었으면 추가하지 않음)
+     *
+     * @return 추가했는지 여부
+     */
+    public synchronized boolean appendMessage(long epoch, Message message) {
+        if (epoch != discussionEpoch || messages == null) {
+            return false;
+        }
+        messages.add(message);
+        return true;
+    }
+
+    /**
+     * 요약본 갱신 (그 사이 토론이 다시 시작되었거나 다른 요약본으로 바뀌었으면 버림)
+     */
+    public synchronized boolean applyDigest(long epoch, String previous, String updated, int messageCount) {
+        if (epoch != discussionEpoch || !Objects.equals(digest, previous)
+                || messages == null || messages.size() < messageCount) {
+            return false;
+        }
+        digest = updated;
+        digestedMessageCount = messageCount;
+        return true;
+    }
+
+    /**
+     * 대화 기록과 요약본의 일관된 스냅샷
+     */
+    public synchronized Conversation conversation() {
+        List<Message> current = messages == null ? List.of() : List.copyOf(messages);
+        int digested = digest == null ? 0 : Math.min(digestedMessageCount, current.size());
+        return new Conversation(discussionEpoch, current, digest, digested);
+    }
+
+    /**
+     * @param digestedMessageCount 요약본에 반영된 앞쪽 메시지 수 (요약본이 없으면 0)
+     */
+    public record Conversation(long epoch, List<Message> messages, String digest, int digestedMessageCount) {
+
+        /**
+         * 요약본에 반영되지 않은 메시지
+         */
+        public List<Message> undigested() {
+            return messages.subList(digestedMessageCount, messages.size());
+        }
+    }
+
+    /**
+     * 변경 사항 반영 (SessionStore.save에서 호출)
+     */
+    public synchronized void touch() {
+        version++;
+        lastActivityAt = LocalDateTime.now();
+    }
+}
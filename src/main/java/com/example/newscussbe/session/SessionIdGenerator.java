@@ -0,0 +1,44 @@
+package com.example.newscussbe.session;
+
+import java.util.UUID;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 소유 노드가 포함된 세션 ID 생성
+ * 형식: {UUID}.{nodeId} - 로드 밸런서는 nodeId로 소유 노드에 라우팅할 수 있음
+ */
+@Component
+public class SessionIdGenerator {
+
+    private static final char NODE_SEPARATOR = '.';
+
+    private final String nodeId;
+
+    public SessionIdGenerator(@Value("${newscuss.node-id:local}") String nodeId) {
+        // 세션 ID가 URL 경로와 파일 이름에 그대로 쓰이므로 안전한 문자만 허용
+        String sanitized = nodeId.replaceAll("[^A-Za-z0-9-]", "-");
+        this.nodeId = sanitized.isEmpty() ? "local" : sanitized;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public String newSessionId() {
+        return UUID.randomUUID().toString() + NODE_SEPARATOR + nodeId;
+    }
+
+    /**
+     * 세션을 소유한 노드 (노드 정보가 없는 이전 형식의 ID는 null)
+     */
+    public String ownerOf(String sessionId) {
+        int separator = sessionId.lastIndexOf(NODE_SEPARATOR);
+        return separator < 0 ? null : sessionId.substring(separator + 1);
+    }
+
+    public boolean isLocal(String sessionId) {
+        String owner = ownerOf(sessionId);
+        return owner == null || owner.equals(nodeId);
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.newscussbe.session;
+
+import java.util.Optional;
+
+/**
+ * 세션 저장소
+ * 세션 데이터를 변경한 뒤에는 반드시 save를 호출해야 다른 노드에서도 보임
+ */
+public interface SessionStore {
+
+    /**
+     * 세션 조회 (다른 노드가 소유한 세션은 공유 저장소에서 가져옴)
+     */
+    Optional<SessionData> find(String sessionId);
+
+    /**
+     * 세션 저장 (생성 및 변경 모두, 저장할 때마다 버전 증가)
+     */
+    void save(String sessionId, SessionData sessionData);
+
+    /**
+     * 세션 삭제
+     */
+    void delete(String sessionId);
+}
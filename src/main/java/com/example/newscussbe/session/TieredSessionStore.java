@@ -0,0 +1,514 @@
+package com.example.newscussbe.session;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PreDestroy;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.MemoryUsage;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongSupplier;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 2단계 세션 저장소 (단일 노드)
+ * - 최근에 사용한 세션은 힙에 두고, 오래 쓰지 않은 세션은 압축하여 로컬 디스크 세그먼트로 내림
+ * - 디스크로 내린 세션은 메모리 색인(세션 ID → 세그먼트 위치)만 남고, 조회하면 다시 힙으로 올림
+ * - idle-millis 동안 쓰지 않은 세션은 항상 내리고, 힙 점유율이 heap-threshold를 넘으면
+ *   pressure-min-idle-millis 이상 쓰지 않은 세션을 오래된 순으로 pressure-spill-ratio만큼 더 내림
+ * - 세그먼트는 추가만 하며, 살아 있는 세션이 하나도 없으면 파일을 삭제
+ * 재시작하면 이전 세그먼트는 지움 (메모리 저장소처럼 재시작 시 세션은 유지되지 않음)
+ *
+ * 세션을 들고 응답을 기다리는 동안(최대 rest.timeout.read) 내려가지 않도록
+ * idle-millis와 pressure-min-idle-millis는 그보다 길어야 함 (기동 시 확인)
+ * 그래도 내려갔다 다시 올라온 세션이 있으면, 예전 객체로 한 저장은 버전을 비교하여 거절
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "newscuss.session.store", havingValue = "tiered")
+public class TieredSessionStore implements SessionStore {
+
+    private static final String SEGMENT_SUFFIX = ".seg";
+    // 세그먼트 레코드 머리: 압축된 본문 길이 (int)
+    private static final int RECORD_HEADER_BYTES = Integer.BYTES;
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final Path directory;
+    private final long idleNanos;
+    private final double heapThreshold;
+    private final long pressureMinIdleNanos;
+    private final double pressureSpillRatio;
+    private final long segmentSizeBytes;
+    private final LongSupplier clock;
+    private final DoubleSupplier heapOccupancy;
+
+    private final ConcurrentHashMap<String, HotEntry> hot = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Location> cold = new ConcurrentHashMap<>();
+
+    // 세그먼트 추가 쓰기 (한 번에 하나의 세그먼트에만 씀)
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final AtomicInteger segmentCount = new AtomicInteger();
+    private Segment activeSegment;
+    private int nextSegmentId;
+
+    // 힙 압박 중 더 내릴 세션이 없다는 경고를 이미 남겼는지 (spillIdle 스케줄 스레드만 사용)
+    private boolean pressureWarned;
+
+    @Autowired
+    public TieredSessionStore(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+                              @Value("${newscuss.session.tiered.directory}") String directory,
+                              @Value("${newscuss.session.tiered.idle-millis:600000}") long idleMillis,
+                              @Value("${newscuss.session.tiered.heap-threshold:0.7}") double heapThreshold,
+                              @Value("${newscuss.session.tiered.pressure-min-idle-millis:120000}") long pressureMinIdleMillis,
+                              @Value("${newscuss.session.tiered.pressure-spill-ratio:0.25}") double pressureSpillRatio,
+                              @Value("${newscuss.session.tiered.segment-size-bytes:67108864}") long segmentSizeBytes,
+                              @Value("${rest.timeout.read:60000}") long readTimeoutMillis)
+            throws IOException {
+        this(objectMapper, meterRegistry, Paths.get(directory),
+                checkIdle("idle-millis", idleMillis, readTimeoutMillis), heapThreshold,
+                checkIdle("pressure-min-idle-millis", pressureMinIdleMillis, readTimeoutMillis),
+                pressureSpillRatio, segmentSizeBytes, System::nanoTime, TieredSessionStore::liveHeapOccupancy);
+    }
+
+    TieredSessionStore(ObjectMapper objectMapper, MeterRegistry meterRegistry, Path directory, long idleMillis,
+                       double heapThreshold, long pressureMinIdleMillis, double pressureSpillRatio,
+                       long segmentSizeBytes, LongSupplier clock, DoubleSupplier heapOccupancy) throws IOException {
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.directory = Files.createDirectories(directory);
+        this.idleNanos = TimeUnit.MILLISECONDS.toNanos(idleMillis);
+        this.heapThreshold = heapThreshold;
+        this.pressureMinIdleNanos = TimeUnit.MILLISECONDS.toNanos(pressureMinIdleMillis);
+        this.pressureSpillRatio = pressureSpillRatio;
+        this.segmentSizeBytes = segmentSizeBytes;
+        this.clock = clock;
+        this.heapOccupancy = heapOccupancy;
+
+        deleteSegments();
+
+        meterRegistry.gauge("newscuss.session.tier.sessions", Tags.of("tier", "hot"), hot, Map::size);
+        meterRegistry.gauge("newscuss.session.tier.sessions", Tags.of("tier", "cold"), cold, Map::size);
+        meterRegistry.gauge("newscuss.session.tier.segments", segmentCount);
+
+        log.info("Using tiered session store, spilling idle sessions to {}", this.directory);
+    }
+
+    // 세션을 들고 있는 동안 내려가면 같은 세션의 객체가 둘이 되므로, 읽기 타임아웃보다 길어야 함
+    private static long checkIdle(String name, long millis, long readTimeoutMillis) {
+        if (millis <= readTimeoutMillis) {
+            throw new IllegalArgumentException("newscuss.session.tiered." + name + " (" + millis
+                    + ") must be longer than rest.timeout.read (" + readTimeoutMillis + ")");
+        }
+        return millis;
+    }
+
+    @Override
+    public Optional<SessionData> find(String sessionId) {
+        HotEntry entry = hot.get(sessionId);
+        if (entry == null) {
+            // 디스크에 있으면 힙으로 올림
+            entry = promote(sessionId);
+        }
+        if (entry == null) {
+            return Optional.empty();
+        }
+        entry.lastAccessNanos = clock.getAsLong();
+        return Optional.of(entry.data);
+    }
+
+    @Override
+    public void save(String sessionId, SessionData sessionData) {
+        hot.compute(sessionId, (key, existing) -> {
+            if (isStale(key, existing, sessionData)) {
+                log.warn("Refusing stale save of session {} (version {})", key, sessionData.getVersion());
+                meterRegistry.counter("newscuss.session.tier.stale-saves").increment();
+                return existing;
+            }
+            sessionData.touch();
+            // 디스크에 남은 예전 사본은 버림
+            discardCold(key);
+            return new HotEntry(sessionData, clock.getAsLong());
+        });
+    }
+
+    // 내려갔다 다시 올라오기 전의 객체로, 올라온 사본이 그 뒤에 저장되었으면 오래된 것
+    // (처음 저장하는 새 객체는 버전이 0이므로 그대로 교체)
+    private boolean isStale(String sessionId, HotEntry existing, SessionData sessionData) {
+        long version = sessionData.getVersion();
+        if (version == 0) {
+            return false;
+        }
+        if (existing != null) {
+            return existing.data != sessionData && existing.data.getVersion() > version;
+        }
+        Location location = cold.get(sessionId);
+        return location != null && location.version() > version;
+    }
+
+    @Override
+    public void delete(String sessionId) {
+        hot.compute(sessionId, (key, existing) -> {
+            discardCold(key);
+            return null;
+        });
+    }
+
+    /**
+     * 오래 쓰지 않은 세션을 디스크로 내림 (힙 점유율이 높으면 더 적극적으로)
+     */
+    @Scheduled(fixedDelayString = "${newscuss.session.tiered.scan-interval-millis:30000}")
+    public void spillIdle() {
+        long now = clock.getAsLong();
+
+        int spilled = 0;
+        for (Map.Entry<String, HotEntry> entry : hot.entrySet()) {
+            if (now - entry.getValue().lastAccessNanos >= idleNanos && spill(entry.getKey(), now - idleNanos)) {
+                spilled++;
+            }
+        }
+        if (spilled > 0) {
+            meterRegistry.counter("newscuss.session.tier.spills", "reason", "idle").increment(spilled);
+        }
+
+        double occupancy = heapOccupancy.getAsDouble();
+        if (occupancy >= heapThreshold) {
+            int pressured = spillUnderPressure(now);
+            if (pressured > 0) {
+                meterRegistry.counter("newscuss.session.tier.spills", "reason", "heap").increment(pressured);
+                log.debug("Heap occupancy {} over {}: spilled {} more sessions", String.format("%.2f", occupancy),
+                        heapThreshold, pressured);
+            } else if (!pressureWarned) {
+                // 더 내릴 세션이 없는데도 임계치 위: 점유율이 내려갈 때까지 한 번만 경고
+                pressureWarned = true;
+                log.warn("Heap occupancy {} still over {} with no more sessions to spill (hot: {}, cold: {})",
+                        String.format("%.2f", occupancy), heapThreshold, hot.size(), cold.size());
+            }
+        } else {
+            pressureWarned = false;
+        }
+
+        if (spilled > 0) {
+            log.debug("Spilled {} idle sessions (hot: {}, cold: {})", spilled, hot.size(), cold.size());
+        }
+    }
+
+    // pressure-min-idle-millis 이상 쓰지 않은 세션 중 오래된 순으로 일부를 내림
+    private int spillUnderPressure(long now) {
+        List<Map.Entry<String, Long>> candidates = new ArrayList<>();
+        for (Map.Entry<String, HotEntry> entry : hot.entrySet()) {
+            long lastAccess = entry.getValue().lastAccessNanos;
+            if (now - lastAccess >= pressureMinIdleNanos) {
+                candidates.add(Map.entry(entry.getKey(), lastAccess));
+            }
+        }
+        candidates.sort(Comparator.comparingLong(Map.Entry::getValue));
+
+        int limit = (int) Math.ceil(hot.size() * pressureSpillRatio);
+        int spilled = 0;
+        for (Map.Entry<String, Long> candidate : candidates) {
+            if (spilled >= limit) {
+                break;
+            }
+            if (spill(candidate.getKey(), now - pressureMinIdleNanos)) {
+                spilled++;
+            }
+        }
+        return spilled;
+    }
+
+    // idleBefore 이후에 사용되지 않았으면 디스크로 내림
+    // 압축과 쓰기는 compute 밖에서 하고, 그동안 사용되거나 저장되지 않았을 때만 색인을 바꿈
+    private boolean spill(String sessionId, long idleBefore) {
+        HotEntry entry = hot.get(sessionId);
+        if (entry == null || entry.lastAccessNanos - idleBefore > 0) {
+            return false;
+        }
+
+        Location location;
+        try {
+            long version = entry.data.getVersion();
+            location = append(compress(entry.data), version);
+        } catch (IOException e) {
+            log.warn("Failed to spill session {}: {}", sessionId, e.getMessage());
+            return false;
+        }
+
+        boolean[] spilled = {false};
+        hot.computeIfPresent(sessionId, (key, current) -> {
+            if (current != entry || current.lastAccessNanos - idleBefore > 0) {
+                return current;
+            }
+            cold.put(key, location);
+            spilled[0] = true;
+            return null;
+        });
+        if (!spilled[0]) {
+            release(location.segment());
+        }
+        return spilled[0];
+    }
+
+    // 읽기와 압축 해제는 compute 밖에서 하고, 그동안 색인이 바뀌지 않았을 때만 힙에 올림
+    private HotEntry promote(String sessionId) {
+        while (true) {
+            Location location = cold.get(sessionId);
+            if (location == null) {
+                // 없거나, 그 사이 다른 스레드가 올리거나 저장함
+                return hot.get(sessionId);
+            }
+
+            SessionData sessionData;
+            try {
+                sessionData = decompress(location.read());
+            } catch (IOException e) {
+                if (cold.get(sessionId) != location) {
+                    // 읽는 사이 다른 스레드가 올리거나 저장하여 세그먼트가 닫힘
+                    continue;
+                }
+                throw new UncheckedIOException("Failed to read spilled session: " + sessionId, e);
+            }
+
+            HotEntry promoted = new HotEntry(sessionData, clock.getAsLong());
+            HotEntry result = hot.compute(sessionId, (key, existing) -> {
+                if (existing != null || cold.get(key) != location) {
+                    return existing;
+                }
+                discardCold(key);
+                return promoted;
+            });
+            if (result == promoted) {
+                meterRegistry.counter("newscuss.session.tier.promotions").increment();
+            }
+            if (result != null) {
+                return result;
+            }
+            // 읽는 사이 다른 위치로 다시 내려감
+        }
+    }
+
+    private void discardCold(String sessionId) {
+        Location location = cold.remove(sessionId);
+        if (location != null) {
+            release(location.segment());
+        }
+    }
+
+    private byte[] compress(SessionData sessionData) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try (OutputStream out = new DeflaterOutputStream(bytes, deflater)) {
+            objectMapper.writeValue(out, sessionData);
+        } finally {
+            deflater.end();
+        }
+        return bytes.toByteArray();
+    }
+
+    private SessionData decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new InflaterInputStream(new ByteArrayInputStream(compressed))) {
+            return objectMapper.readValue(in, SessionData.class);
+        }
+    }
+
+    private Location append(byte[] compressed, long version) throws IOException {
+        int recordBytes = RECORD_HEADER_BYTES + compressed.length;
+        ByteBuffer record = ByteBuffer.allocate(recordBytes);
+        record.putInt(compressed.length).put(compressed).flip();
+
+        appendLock.lock();
+        try {
+            if (activeSegment == null || activeSegment.size + recordBytes > segmentSizeBytes) {
+                rollSegment();
+            }
+            Segment segment = activeSegment;
+            long offset = segment.size;
+            while (record.hasRemaining()) {
+                segment.channel.write(record, offset + record.position());
+            }
+            segment.size += recordBytes;
+            segment.live.incrementAndGet();
+            return new Location(segment, offset + RECORD_HEADER_BYTES, compressed.length, version);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // appendLock을 잡은 상태에서 호출
+    private void rollSegment() throws IOException {
+        Segment previous = activeSegment;
+        Path file = directory.resolve(String.format("segment-%08d%s", nextSegmentId++, SEGMENT_SUFFIX));
+        activeSegment = new Segment(file, FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE));
+        segmentCount.incrementAndGet();
+
+        // 쓰기가 끝난 세그먼트에 살아 있는 세션이 없으면 바로 삭제
+        if (previous != null) {
+            previous.sealed = true;
+            deleteIfEmpty(previous);
+        }
+    }
+
+    private void release(Segment segment) {
+        if (segment.live.decrementAndGet() == 0) {
+            appendLock.lock();
+            try {
+                deleteIfEmpty(segment);
+            } finally {
+                appendLock.unlock();
+            }
+        }
+    }
+
+    // appendLock을 잡은 상태에서 호출 (쓰는 중인 세그먼트는 다음 세그먼트로 넘어갈 때 삭제)
+    private void deleteIfEmpty(Segment segment) {
+        if (!segment.sealed || segment.live.get() > 0 || segment.deleted) {
+            return;
+        }
+        segment.deleted = true;
+        segmentCount.decrementAndGet();
+        try {
+            segment.channel.close();
+            Files.deleteIfExists(segment.file);
+        } catch (IOException e) {
+            log.warn("Failed to delete session segment {}: {}", segment.file, e.getMessage());
+        }
+    }
+
+    private void deleteSegments() throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + SEGMENT_SUFFIX)) {
+            for (Path file : files) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        appendLock.lock();
+        try {
+            if (activeSegment != null) {
+                activeSegment.sealed = true;
+            }
+            List<Segment> segments = new ArrayList<>(cold.values().stream().map(Location::segment).distinct().toList());
+            if (activeSegment != null) {
+                segments.add(activeSegment);
+            }
+            for (Segment segment : segments) {
+                segment.channel.close();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        deleteSegments();
+    }
+
+    int hotSize() {
+        return hot.size();
+    }
+
+    int coldSize() {
+        return cold.size();
+    }
+
+    int segmentCount() {
+        return segmentCount.get();
+    }
+
+    /**
+     * 마지막 GC 직후의 힙 사용량 / 최대 힙 (쓰레기를 제외한 실제 점유율)
+     * GC 직후 사용량을 알 수 없는 JVM에서는 현재 사용량 사용
+     */
+    static double liveHeapOccupancy() {
+        MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        long max = heap.getMax() > 0 ? heap.getMax() : heap.getCommitted();
+
+        long liveBytes = 0;
+        boolean supported = false;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            MemoryUsage afterGc = pool.getType() == MemoryType.HEAP ? pool.getCollectionUsage() : null;
+            if (afterGc != null) {
+                liveBytes += afterGc.getUsed();
+                supported = true;
+            }
+        }
+        return (double) (supported ? liveBytes : heap.getUsed()) / max;
+    }
+
+    private static final class HotEntry {
+
+        private final SessionData data;
+        private volatile long lastAccessNanos;
+
+        private HotEntry(SessionData data, long lastAccessNanos) {
+            this.data = data;
+            this.lastAccessNanos = lastAccessNanos;
+        }
+    }
+
+    /**
+     * 추가 쓰기만 하는 세그먼트 파일 (레코드: 압축된 본문 길이 int + 압축된 세션 JSON)
+     */
+    private static final class Segment {
+
+        private final Path file;
+        private final FileChannel channel;
+        // 이 세그먼트에 있는 세션 중 아직 색인이 가리키는 수
+        private final AtomicInteger live = new AtomicInteger();
+        // appendLock으로 보호
+        private long size;
+        private boolean sealed;
+        private boolean deleted;
+
+        private Segment(Path file, FileChannel channel) {
+            this.file = file;
+            this.channel = channel;
+        }
+    }
+
+    // version: 내릴 때의 세션 버전 (오래된 객체의 저장을 거절하는 데 사용)
+    private record Location(Segment segment, long offset, int length, long version) {
+
+        byte[] read() throws IOException {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (segment.channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("Unexpected end of segment " + segment.file);
+                }
+            }
+            return buffer.array();
+        }
+    }
+}
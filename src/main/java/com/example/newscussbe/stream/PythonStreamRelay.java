@@ -0,0 +1,179 @@
+package com.example.newscussbe.stream;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * Python API의 SSE 응답(chunk/end/error)을 ReplayableStream으로 중계
+ * - 청크는 그대로 전달하면서 전체 텍스트를 누적
+ * - end를 받으면(또는 end 없이 끝났지만 받은 텍스트가 있으면) Completion 호출 후 end 이벤트 전송
+ * - 작업별로 첫 청크까지 걸린 시간(TTFT)을 newscuss.stream.ttft에 기록
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PythonStreamRelay {
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 스트림 완료 처리 (세션 저장 등)
+     */
+    @FunctionalInterface
+    public interface Completion {
+
+        /**
+         * @param text     전체 텍스트 (end 이벤트에 final_message가 있으면 그 값)
+         * @param endEvent Python API의 end 이벤트 (end 없이 끝난 경우 null)
+         * @return end 이벤트에 함께 실을 값
+         */
+        Map<String, Object> onEnd(String text, JsonNode endEvent) throws Exception;
+    }
+
+    /**
+     * Python API 호출에 넘길 응답 처리기 생성 (호출 직전에 생성해야 TTFT가 정확함)
+     *
+     * @param operation 메트릭 태그 (start, message, summary, feedback)
+     */
+    public ResponseExtractor<Void> relay(String operation, ReplayableStream stream, Completion completion) {
+        long startNanos = System.nanoTime();
+        Timer ttft = meterRegistry.timer("newscuss.stream.ttft", "operation", operation);
+
+        return response -> {
+            StringBuilder accumulated = new StringBuilder();
+            boolean firstChunk = true;
+
+            try (BufferedReader reader = new BufferedReader(
+                    new InputStreamReader(response.getBody(), StandardCharsets.UTF_8))) {
+                String line;
+
+                while ((line = reader.readLine()) != null) {
+                    if (!line.startsWith("data: ")) {
+                        continue;
+                    }
+
+                    String jsonData = line.substring(6).trim();
+                    if (jsonData.isEmpty() || jsonData.equals("{}")) {
+                        continue;
+                    }
+
+                    JsonNode dataNode;
+                    try {
+                        dataNode = objectMapper.readTree(jsonData);
+                    } catch (JsonProcessingException parseError) {
+                        // 파싱 에러는 무시하고 계속 진행
+                        log.error("🚫 Error parsing SSE data: {}", jsonData, parseError);
+                        continue;
+                    }
+
+                    String type = dataNode.path("type").asText();
+                    if ("chunk".equals(type)) {
+                        if (firstChunk) {
+                            ttft.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+                            firstChunk = false;
+                        }
+                        String content = dataNode.path("content").asText();
+                        accumulated.append(content);
+                        stream.emit(toJson(Map.of("type", "chunk", "content", content)));
+
+                    } else if ("end".equals(type)) {
+                        String text = dataNode.has("final_message")
+                                ? dataNode.get("final_message").asText()
+                                : accumulated.toString();
+                        log.info("🏁 {} stream completed. Message length: {}", operation, text.length());
+                        finish(stream, completion, text, dataNode);
+                        return null;
+
+                    } else if ("error".equals(type)) {
+                        String errorMessage = dataNode.path("message").asText();
+                        log.error("❌ Error from Python API: {}", errorMessage);
+                        fail(stream, errorMessage, new RuntimeException(errorMessage));
+                        return null;
+                    }
+                }
+
+                // 정상적으로 완료되지 않은 경우 강제 완료
+                if (accumulated.length() > 0) {
+                    log.warn("⚠️ {} stream ended without proper completion signal, forcing completion", operation);
+                    finish(stream, completion, accumulated.toString(), null);
+                } else {
+                    stream.complete();
+                }
+
+            } catch (IOException readError) {
+                // 상위 스트림을 읽다 끊긴 경우: 클라이언트에 에러를 보낸 뒤 다시 던져
+                // PythonApiClient가 해당 인스턴스를 실패로 기록하도록 함 (이후 fail 호출은 무시됨)
+                log.error("💥 Upstream {} stream broke", operation, readError);
+                fail(stream, "스트리밍 처리 중 오류가 발생했습니다", readError);
+                throw readError;
+            } catch (Exception streamError) {
+                log.error("💥 Error in {} stream processing", operation, streamError);
+                fail(stream, "스트리밍 처리 중 오류가 발생했습니다", streamError);
+            }
+
+            return null;
+        };
+    }
+
+    /**
+     * Python API 응답과 별개인 이벤트 전송 (예: 시작 정보)
+     */
+    public void emit(ReplayableStream stream, Map<String, Object> payload) {
+        stream.emit(toJson(payload));
+    }
+
+    /**
+     * 에러 이벤트 전송 후 스트림 실패 처리
+     */
+    public void fail(ReplayableStream stream, String message, Throwable error) {
+        stream.emit(toJson(Map.of("type", "error", "message", message == null ? "" : message)));
+        stream.fail(error);
+    }
+
+    /**
+     * Python API를 거치지 않고 결과를 바로 end 이벤트로 전송
+     */
+    public void complete(ReplayableStream stream, Map<String, Object> result) {
+        stream.emit(endEvent(result));
+        stream.complete();
+    }
+
+    private void finish(ReplayableStream stream, Completion completion, String text, JsonNode endEvent)
+            throws Exception {
+        Map<String, Object> result = completion.onEnd(text, endEvent);
+        complete(stream, result);
+    }
+
+    private String endEvent(Map<String, Object> result) {
+        Map<String, Object> payload = new LinkedHashMap<>(result);
+        payload.put("type", "end");
+        return toJson(payload);
+    }
+
+    private String toJson(Map<String, Object> payload) {
+        // type이 항상 맨 앞에 오도록 순서 유지
+        Map<String, Object> ordered = new LinkedHashMap<>();
+        ordered.put("type", payload.get("type"));
+        ordered.putAll(payload);
+        try {
+            return objectMapper.writeValueAsString(ordered);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize stream event", e);
+        }
+    }
+}
@@ -0,0 +1,212 @@
+package com.example.newscussbe.stream;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다시 붙을 수 있는 스트림
+ * - 모든 이벤트에 순번을 붙이고 최근 이벤트를 제한된 크기의 버퍼에 보관
+ * - 연결이 끊겨도 상위(Python) 스트림은 계속 읽고, 재연결한 리스너에게 놓친 이벤트를 재전송
+ * - 상태 변경과 리스너별 대기열 추가만 잠금 안에서 하고, 리스너 전송은 잠금 밖에서 함
+ *   (느린 연결 하나가 다른 연결, 재연결, 상태 조회를 막지 않음)
+ */
+@Slf4j
+public class ReplayableStream {
+
+    private enum State { RUNNING, COMPLETED, FAILED }
+
+    // 재전송할 이벤트가 이미 버퍼에서 밀려난 경우 보내는 이벤트 (받은 쪽은 대화 기록을 다시 불러와야 함)
+    static final String REPLAY_GAP_EVENT = "{\"type\":\"error\",\"code\":\"replay_gap\","
+            + "\"message\":\"놓친 응답이 만료되어 이어받을 수 없습니다. 대화 기록을 다시 불러와 주세요\"}";
+
+    private final String streamId;
+    private final int capacity;
+    private final ArrayDeque<StreamEvent> buffer = new ArrayDeque<>();
+    private final List<Subscription> subscriptions = new ArrayList<>();
+
+    private long nextSequence = 1;
+    private State state = State.RUNNING;
+    private Throwable failure;
+    private volatile long finishedAtMillis;
+
+    public ReplayableStream(String streamId, int capacity) {
+        this.streamId = streamId;
+        this.capacity = capacity;
+    }
+
+    public String streamId() {
+        return streamId;
+    }
+
+    /**
+     * 이벤트 전송 (버퍼에 저장 후 연결된 모든 리스너에 전달)
+     */
+    public void emit(String data) {
+        List<Subscription> targets;
+        synchronized (this) {
+            if (state != State.RUNNING) {
+                return;
+            }
+
+            StreamEvent event = new StreamEvent(streamId + "-" + nextSequence, nextSequence, data);
+            nextSequence++;
+
+            buffer.addLast(event);
+            if (buffer.size() > capacity) {
+                buffer.removeFirst();
+            }
+
+            targets = List.copyOf(subscriptions);
+            targets.forEach(subscription -> subscription.pending.add(event));
+        }
+        targets.forEach(Subscription::drain);
+    }
+
+    public void complete() {
+        finish(State.COMPLETED, null);
+    }
+
+    public void fail(Throwable error) {
+        finish(State.FAILED, error);
+    }
+
+    private void finish(State finalState, Throwable error) {
+        List<Subscription> targets;
+        synchronized (this) {
+            if (state != State.RUNNING) {
+                return;
+            }
+            state = finalState;
+            failure = error;
+            finishedAtMillis = System.currentTimeMillis();
+
+            targets = List.copyOf(subscriptions);
+            subscriptions.clear();
+            targets.forEach(subscription -> subscription.pending.add(new Terminal(error)));
+        }
+        targets.forEach(Subscription::drain);
+    }
+
+    public synchronized boolean isFailed() {
+        return state == State.FAILED;
+    }
+
+    public boolean isFinished() {
+        return finishedAtMillis != 0;
+    }
+
+    public long finishedAtMillis() {
+        return finishedAtMillis;
+    }
+
+    /**
+     * 리스너 연결: lastEventId 이후의 이벤트를 재전송하고, 스트림이 진행 중이면 이후 이벤트도 전달
+     * 그 사이 이벤트가 버퍼에서 밀려났으면 replay_gap 에러 이벤트를 보내고 연결을 끝냄
+     *
+     * @param lastEventId 클라이언트가 마지막으로 받은 이벤트 ID (처음부터 받으려면 null)
+     */
+    public void attach(StreamListener listener, String lastEventId) {
+        Subscription subscription = new Subscription(listener);
+        synchronized (this) {
+            long lastSequence = sequenceOf(lastEventId);
+            if (!buffer.isEmpty() && buffer.peekFirst().sequence() > lastSequence + 1) {
+                log.warn("Replay buffer of stream {} no longer holds events after {}", streamId, lastEventId);
+                subscription.pending.add(new StreamEvent(streamId + "-" + lastSequence, lastSequence,
+                        REPLAY_GAP_EVENT));
+                subscription.pending.add(new Terminal(new IllegalStateException(
+                        "Events after " + lastEventId + " are no longer buffered")));
+            } else {
+                for (StreamEvent event : buffer) {
+                    if (event.sequence() > lastSequence) {
+                        subscription.pending.add(event);
+                    }
+                }
+                switch (state) {
+                    case RUNNING -> subscriptions.add(subscription);
+                    case COMPLETED -> subscription.pending.add(new Terminal(null));
+                    case FAILED -> subscription.pending.add(new Terminal(failure));
+                }
+            }
+        }
+        subscription.drain();
+    }
+
+    // 다른 스트림(이전 턴)의 ID이거나 형식이 맞지 않으면 처음부터 재전송
+    private long sequenceOf(String lastEventId) {
+        if (lastEventId == null || !lastEventId.startsWith(streamId + "-")) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(lastEventId.substring(streamId.length() + 1));
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private synchronized void unsubscribe(Subscription subscription) {
+        subscriptions.remove(subscription);
+    }
+
+    // 스트림 종료 알림 (error가 null이면 정상 완료)
+    private record Terminal(Throwable error) {
+    }
+
+    /**
+     * 리스너 하나의 대기열
+     * 대기열에는 스트림 잠금 안에서 순서대로 넣고, 전달은 잠금 밖에서 한 번에 한 스레드만 하므로 순서가 유지됨
+     */
+    private final class Subscription {
+
+        private final StreamListener listener;
+        // StreamEvent 또는 Terminal
+        private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile boolean closed;
+
+        private Subscription(StreamListener listener) {
+            this.listener = listener;
+        }
+
+        void drain() {
+            // 전달 중인 스레드가 끝난 직후 들어온 항목을 놓치지 않도록 다시 확인
+            while (!pending.isEmpty() && draining.compareAndSet(false, true)) {
+                try {
+                    Object item;
+                    while ((item = pending.poll()) != null) {
+                        if (!closed) {
+                            deliver(item);
+                        }
+                    }
+                } finally {
+                    draining.set(false);
+                }
+            }
+        }
+
+        private void deliver(Object item) {
+            if (item instanceof Terminal terminal) {
+                closed = true;
+                if (terminal.error() == null) {
+                    listener.onComplete();
+                } else {
+                    listener.onError(terminal.error());
+                }
+                return;
+            }
+
+            try {
+                listener.onEvent((StreamEvent) item);
+            } catch (Exception e) {
+                log.debug("Stream {} listener disconnected: {}", streamId, e.getMessage());
+                closed = true;
+                unsubscribe(this);
+                listener.onError(e);
+            }
+        }
+    }
+}
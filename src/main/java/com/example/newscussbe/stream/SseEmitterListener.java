@@ -0,0 +1,31 @@
+package com.example.newscussbe.stream;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 스트림 이벤트를 SseEmitter로 전달
+ */
+@RequiredArgsConstructor
+public class SseEmitterListener implements StreamListener {
+
+    private final SseEmitter emitter;
+
+    @Override
+    public void onEvent(StreamEvent event) throws Exception {
+        emitter.send(SseEmitter.event()
+                .id(event.id())
+                .name("message")
+                .data(event.data()));
+    }
+
+    @Override
+    public void onComplete() {
+        emitter.complete();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        emitter.completeWithError(error);
+    }
+}
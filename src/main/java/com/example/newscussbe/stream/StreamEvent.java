@@ -0,0 +1,11 @@
+package com.example.newscussbe.stream;
+
+/**
+ * 스트림으로 전송된 이벤트 하나
+ *
+ * @param id       클라이언트에 전달되는 이벤트 ID ({streamId}-{sequence}), Last-Event-ID로 돌아옴
+ * @param sequence 스트림 내 순번 (1부터 시작)
+ * @param data     이벤트 데이터 (JSON)
+ */
+public record StreamEvent(String id, long sequence, String data) {
+}
@@ -0,0 +1,16 @@
+package com.example.newscussbe.stream;
+
+/**
+ * 스트림 이벤트를 받는 쪽 (SSE 연결 등)
+ */
+public interface StreamListener {
+
+    /**
+     * 이벤트 전달 (예외를 던지면 연결이 끊긴 것으로 보고 리스너를 제거)
+     */
+    void onEvent(StreamEvent event) throws Exception;
+
+    void onComplete();
+
+    void onError(Throwable error);
+}
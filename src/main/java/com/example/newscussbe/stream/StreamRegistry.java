@@ -0,0 +1,60 @@
+package com.example.newscussbe.stream;
+
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 세션별 최근 스트림 보관 (재연결 시 이어받기용)
+ */
+@Slf4j
+@Component
+public class StreamRegistry {
+
+    private final ConcurrentHashMap<String, ReplayableStream> streams = new ConcurrentHashMap<>();
+    private final AtomicLong streamIds = new AtomicLong(System.currentTimeMillis());
+
+    @Value("${newscuss.stream.replay-buffer-size:1024}")
+    private int replayBufferSize;
+
+    @Value("${newscuss.stream.retention-millis:300000}")
+    private long retentionMillis;
+
+    /**
+     * 세션의 새 스트림 시작 (이전 스트림은 더 이상 이어받을 수 없음)
+     */
+    public ReplayableStream start(String sessionId) {
+        ReplayableStream stream = new ReplayableStream(Long.toString(streamIds.incrementAndGet(), 36), replayBufferSize);
+        streams.put(sessionId, stream);
+        return stream;
+    }
+
+    /**
+     * 이어받기 대상이 아닌 일회성 스트림 (요약/피드백 등, 세션의 메시지 스트림을 대체하지 않음)
+     */
+    public ReplayableStream detached() {
+        return new ReplayableStream(Long.toString(streamIds.incrementAndGet(), 36), replayBufferSize);
+    }
+
+    public Optional<ReplayableStream> find(String sessionId) {
+        return Optional.ofNullable(streams.get(sessionId));
+    }
+
+    /**
+     * 끝난 지 오래된 스트림 정리
+     */
+    @Scheduled(fixedDelayString = "${newscuss.stream.cleanup-interval-millis:60000}")
+    public void evictFinished() {
+        long threshold = System.currentTimeMillis() - retentionMillis;
+        int before = streams.size();
+        streams.values().removeIf(stream -> stream.isFinished() && stream.finishedAtMillis() < threshold);
+        int evicted = before - streams.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} finished streams", evicted);
+        }
+    }
+}
@@ -0,0 +1,237 @@
+package com.example.newscussbe.warmup;
+
+import com.example.newscussbe.client.PythonUpstreamPool;
+import com.example.newscussbe.client.rpc.DiscussionTurnRequest;
+import com.example.newscussbe.client.rpc.MessageReply;
+import com.example.newscussbe.dto.Message;
+import com.example.newscussbe.keyword.KeywordExtractor;
+import com.example.newscussbe.session.SessionData;
+import com.example.newscussbe.session.SessionIdGenerator;
+import com.example.newscussbe.session.SessionStore;
+import com.example.newscussbe.stream.PythonStreamRelay;
+import com.example.newscussbe.stream.StreamRegistry;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * 트래픽을 받기 전 첫 요청 경로를 미리 실행
+ * ApplicationRunner는 readiness가 ACCEPTING_TRAFFIC으로 바뀌기 전에 실행되므로
+ * 여기서 끝나야 /actuator/health/readiness가 UP이 됨
+ * - Python API 인스턴스마다 연결을 미리 열어 keep-alive 캐시에 넣어 둠
+ * - JSON 직렬화, SSE 중계, 세션 저장소, 키워드 추출 경로의 클래스 로딩과 JIT 유도
+ * 각 단계의 실패는 기록만 하고 기동은 계속함 (Python API가 늦게 뜨는 경우 등)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "newscuss.warmup.enabled", havingValue = "true")
+public class WarmupRunner implements ApplicationRunner {
+
+    private static final String SAMPLE_TEXT = "정부가 내년부터 청년 주거 지원 정책을 확대한다고 밝혔다. "
+            + "전문가들은 주거 지원 확대가 청년층의 주거비 부담을 줄일 것으로 전망했다.";
+
+    private final RestTemplate restTemplate;
+    private final PythonUpstreamPool upstreamPool;
+    private final ObjectMapper objectMapper;
+    private final PythonStreamRelay pythonStreamRelay;
+    private final StreamRegistry streamRegistry;
+    private final SessionStore sessionStore;
+    private final SessionIdGenerator sessionIdGenerator;
+    private final KeywordExtractor keywordExtractor;
+    private final Executor executor;
+
+    private final int connectionsPerUpstream;
+    private final String path;
+    private final int iterations;
+    private final long timeoutMillis;
+
+    public WarmupRunner(RestTemplate restTemplate, PythonUpstreamPool upstreamPool, ObjectMapper objectMapper,
+                        PythonStreamRelay pythonStreamRelay, StreamRegistry streamRegistry,
+                        SessionStore sessionStore, SessionIdGenerator sessionIdGenerator,
+                        KeywordExtractor keywordExtractor,
+                        @Qualifier("llmTaskExecutor") Executor llmTaskExecutor,
+                        @Value("${newscuss.warmup.connections-per-upstream:4}") int connectionsPerUpstream,
+                        @Value("${newscuss.warmup.path:/}") String path,
+                        @Value("${newscuss.warmup.iterations:200}") int iterations,
+                        @Value("${newscuss.warmup.timeout-millis:10000}") long timeoutMillis) {
+        this.restTemplate = restTemplate;
+        this.upstreamPool = upstreamPool;
+        this.objectMapper = objectMapper;
+        this.pythonStreamRelay = pythonStreamRelay;
+        this.streamRegistry = streamRegistry;
+        this.sessionStore = sessionStore;
+        this.sessionIdGenerator = sessionIdGenerator;
+        this.keywordExtractor = keywordExtractor;
+        this.executor = llmTaskExecutor;
+        this.connectionsPerUpstream = connectionsPerUpstream;
+        this.path = path;
+        this.iterations = iterations;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        long startNanos = System.nanoTime();
+
+        // 연결은 네트워크 대기가 대부분이므로 나머지 단계와 동시에 진행
+        CompletableFuture<Void> connections = openConnections();
+
+        step("json", this::warmJson);
+        step("sse-relay", this::warmRelay);
+        step("session", this::warmSessionStore);
+        step("keywords", this::warmKeywords);
+
+        try {
+            connections.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("Warm-up: Python API connections not ready after {} ms, continuing", timeoutMillis);
+        } catch (Exception e) {
+            log.warn("Warm-up: Python API connections failed", e);
+        }
+
+        log.info("Warm-up finished in {} ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+    }
+
+    private CompletableFuture<Void> openConnections() {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (PythonUpstreamPool.Upstream upstream : upstreamPool.upstreams()) {
+            String url = upstream.baseUrl() + path;
+            for (int i = 0; i < connectionsPerUpstream; i++) {
+                futures.add(CompletableFuture.runAsync(() -> openConnection(url), executor));
+            }
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    private void openConnection(String url) {
+        try {
+            // 응답 본문을 끝까지 읽어야 연결이 keep-alive 캐시로 돌아감
+            restTemplate.execute(url, HttpMethod.GET, null, response -> {
+                try (InputStream body = response.getBody()) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+                return null;
+            });
+        } catch (HttpStatusCodeException e) {
+            // 상태 코드와 무관하게 연결은 열렸음
+            log.debug("Warm-up: {} answered {}", url, e.getStatusCode());
+        } catch (Exception e) {
+            log.warn("Warm-up: could not connect to {}: {}", url, e.getMessage());
+        }
+    }
+
+    private void warmJson() throws Exception {
+        List<Message> messages = List.of(
+                new Message("user", SAMPLE_TEXT, LocalDateTime.now()),
+                new Message("ai", SAMPLE_TEXT, LocalDateTime.now()));
+        DiscussionTurnRequest request = new DiscussionTurnRequest("주제", "찬성", "반대", "중", null, messages);
+
+        for (int i = 0; i < iterations; i++) {
+            byte[] json = objectMapper.writeValueAsBytes(request);
+            objectMapper.readValue(json, DiscussionTurnRequest.class);
+            objectMapper.readValue(objectMapper.writeValueAsBytes(new MessageReply(SAMPLE_TEXT)), MessageReply.class);
+        }
+    }
+
+    private void warmRelay() throws Exception {
+        String body = "data: " + objectMapper.writeValueAsString(Map.of("type", "chunk", "content", SAMPLE_TEXT))
+                + "\n\ndata: " + objectMapper.writeValueAsString(Map.of("type", "end")) + "\n\n";
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+
+        for (int i = 0; i < iterations; i++) {
+            pythonStreamRelay.relay("warmup", streamRegistry.detached(), (text, endEvent) -> Map.of())
+                    .extractData(syntheticResponse(bytes));
+        }
+    }
+
+    private void warmSessionStore() {
+        SessionData sessionData = new SessionData();
+        sessionData.setSummary(SAMPLE_TEXT);
+        sessionData.setKeywords(List.of("청년", "주거"));
+        sessionData.setMessages(List.of(new Message("user", SAMPLE_TEXT, LocalDateTime.now())));
+
+        String sessionId = sessionIdGenerator.newSessionId();
+        try {
+            sessionStore.save(sessionId, sessionData);
+            sessionStore.find(sessionId);
+        } finally {
+            sessionStore.delete(sessionId);
+        }
+    }
+
+    private void warmKeywords() {
+        for (int i = 0; i < iterations; i++) {
+            keywordExtractor.extract("청년 주거 지원 확대", SAMPLE_TEXT);
+        }
+    }
+
+    private void step(String name, WarmupStep step) {
+        long startNanos = System.nanoTime();
+        try {
+            step.run();
+            log.debug("Warm-up step {} took {} ms", name, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+        } catch (Exception e) {
+            log.warn("Warm-up step {} failed", name, e);
+        }
+    }
+
+    private static ClientHttpResponse syntheticResponse(byte[] body) {
+        return new ClientHttpResponse() {
+            @Override
+            public HttpStatusCode getStatusCode() {
+                return HttpStatus.OK;
+            }
+
+            @Override
+            public String getStatusText() {
+                return "OK";
+            }
+
+            @Override
+            public void close() {
+            }
+
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(body);
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                HttpHeaders headers = new HttpHeaders();
+                headers.setContentType(MediaType.TEXT_EVENT_STREAM);
+                return headers;
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface WarmupStep {
+        void run() throws Exception;
+    }
+}
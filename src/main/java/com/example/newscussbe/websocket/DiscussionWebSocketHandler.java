@@ -0,0 +1,161 @@
+package com.example.newscussbe.websocket;
+
+import com.example.newscussbe.ratelimit.EndpointClass;
+import com.example.newscussbe.ratelimit.RateLimiter;
+import com.example.newscussbe.service.NewscussService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator;
+import org.springframework.web.socket.handler.ConcurrentWebSocketSessionDecorator.OverflowStrategy;
+import org.springframework.web.socket.handler.TextWebSocketHandler;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * 토론 하나당 WebSocket 연결 하나 (/ws/discussion?sessionId=...)
+ * - 클라이언트: {"type":"message","content":"...","idempotencyKey":"..."} (idempotencyKey는 선택)
+ * - 서버: 스트리밍 API와 같은 JSON 이벤트 (chunk/end/error)
+ * - 연결당 동시에 처리하는 턴은 하나이며, 느린 클라이언트는 전송 버퍼가 넘치면 연결을 끊음
+ */
+@Slf4j
+@Component
+public class DiscussionWebSocketHandler extends TextWebSocketHandler {
+
+    private static final String SESSION_ID_PARAM = "sessionId";
+
+    private final NewscussService newscussService;
+    private final ObjectMapper objectMapper;
+    private final RateLimiter rateLimiter;
+    private final boolean rateLimitEnabled;
+    private final int sendTimeLimitMillis;
+    private final int sendBufferSizeLimit;
+
+    private final Map<String, Connection> connections = new ConcurrentHashMap<>();
+
+    public DiscussionWebSocketHandler(NewscussService newscussService, ObjectMapper objectMapper,
+                                      RateLimiter rateLimiter,
+                                      @Value("${newscuss.rate-limit.enabled:false}") boolean rateLimitEnabled,
+                                      @Value("${newscuss.websocket.send-time-limit-millis:10000}") int sendTimeLimitMillis,
+                                      @Value("${newscuss.websocket.send-buffer-size-limit:524288}") int sendBufferSizeLimit) {
+        this.newscussService = newscussService;
+        this.objectMapper = objectMapper;
+        this.rateLimiter = rateLimiter;
+        this.rateLimitEnabled = rateLimitEnabled;
+        this.sendTimeLimitMillis = sendTimeLimitMillis;
+        this.sendBufferSizeLimit = sendBufferSizeLimit;
+    }
+
+    @Override
+    public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+        String sessionId = session.getUri() == null ? null : UriComponentsBuilder.fromUri(session.getUri())
+                .build()
+                .getQueryParams()
+                .getFirst(SESSION_ID_PARAM);
+        if (sessionId == null || sessionId.isBlank()) {
+            session.close(CloseStatus.POLICY_VIOLATION.withReason("sessionId is required"));
+            return;
+        }
+
+        WebSocketSession outbound = new ConcurrentWebSocketSessionDecorator(
+                session, sendTimeLimitMillis, sendBufferSizeLimit, OverflowStrategy.TERMINATE);
+        connections.put(session.getId(), new Connection(sessionId, outbound));
+        log.info("WebSocket connected for session: {}", sessionId);
+    }
+
+    @Override
+    protected void handleTextMessage(WebSocketSession session, TextMessage textMessage) throws Exception {
+        Connection connection = connections.get(session.getId());
+        if (connection == null) {
+            return;
+        }
+
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(textMessage.getPayload());
+        } catch (IOException e) {
+            sendError(connection, "잘못된 메시지 형식입니다");
+            return;
+        }
+
+        String content = request.path("content").asText(null);
+        if (!"message".equals(request.path("type").asText()) || content == null || content.isBlank()) {
+            sendError(connection, "잘못된 메시지 형식입니다");
+            return;
+        }
+
+        long waitNanos = acquireTurnPermit(session, connection.sessionId());
+        if (waitNanos > 0) {
+            long retryAfterSeconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999L));
+            sendError(connection, "Too many requests, retry after " + retryAfterSeconds + "s");
+            return;
+        }
+
+        // 이전 턴의 응답이 끝나기 전에는 새 메시지를 받지 않음
+        if (!connection.turnInFlight().compareAndSet(false, true)) {
+            sendError(connection, "이전 응답이 끝난 뒤 메시지를 보내주세요");
+            return;
+        }
+
+        String idempotencyKey = request.path("idempotencyKey").asText(null);
+        try {
+            newscussService.processMessageStream(connection.sessionId(), content, idempotencyKey,
+                    new WebSocketStreamListener(connection.outbound(), () -> connection.turnInFlight().set(false)));
+        } catch (Exception e) {
+            log.error("Error starting WebSocket turn for session: {}", connection.sessionId(), e);
+            connection.turnInFlight().set(false);
+            sendError(connection, "메시지 처리 중 오류가 발생했습니다");
+        }
+    }
+
+    @Override
+    public void handleTransportError(WebSocketSession session, Throwable exception) {
+        log.warn("WebSocket transport error for {}: {}", session.getId(), exception.getMessage());
+    }
+
+    @Override
+    public void afterConnectionClosed(WebSocketSession session, CloseStatus status) {
+        // 진행 중인 생성은 계속되며 HTTP 재연결 API로 이어받을 수 있음
+        Connection connection = connections.remove(session.getId());
+        if (connection != null) {
+            log.info("WebSocket closed for session: {} ({})", connection.sessionId(), status);
+        }
+    }
+
+    private long acquireTurnPermit(WebSocketSession session, String sessionId) {
+        if (!rateLimitEnabled) {
+            return 0;
+        }
+        List<String> keys = new ArrayList<>(2);
+        keys.add("session:" + sessionId);
+        InetSocketAddress remoteAddress = session.getRemoteAddress();
+        if (remoteAddress != null) {
+            keys.add("ip:" + remoteAddress.getAddress().getHostAddress());
+        }
+        return rateLimiter.tryAcquire(EndpointClass.TURN, keys, 1);
+    }
+
+    private void sendError(Connection connection, String message) throws IOException {
+        connection.outbound().sendMessage(new TextMessage(
+                objectMapper.writeValueAsString(Map.of("type", "error", "message", message))));
+    }
+
+    private record Connection(String sessionId, WebSocketSession outbound, AtomicBoolean turnInFlight) {
+
+        Connection(String sessionId, WebSocketSession outbound) {
+            this(sessionId, outbound, new AtomicBoolean());
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.newscussbe.websocket;
+
+import com.example.newscussbe.stream.StreamEvent;
+import com.example.newscussbe.stream.StreamListener;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+/**
+ * 스트림 이벤트를 WebSocket 텍스트 메시지로 전달
+ * 한 턴이 끝나도 연결은 유지하고 onFinish만 호출 (다음 턴에 같은 연결 사용)
+ */
+@RequiredArgsConstructor
+class WebSocketStreamListener implements StreamListener {
+
+    private final WebSocketSession session;
+    private final Runnable onFinish;
+
+    @Override
+    public void onEvent(StreamEvent event) throws Exception {
+        session.sendMessage(new TextMessage(event.data()));
+    }
+
+    @Override
+    public void onComplete() {
+        onFinish.run();
+    }
+
+    @Override
+    public void onError(Throwable error) {
+        // 에러 이벤트는 이미 스트림으로 전송됨
+        onFinish.run();
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.newscussbe.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.newscussbe.exception.PythonApiBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PythonCallSchedulerTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<CallPriority> grantOrder = new CopyOnWriteArrayList<>();
+
+    @Test
+    void grantsHigherPriorityFirstWhenSaturated() throws Exception {
+        PythonCallScheduler scheduler = scheduler(60_000, 60_000);
+        scheduler.acquire(CallPriority.INGEST);
+
+        Thread ingest = waitInQueue(scheduler, CallPriority.INGEST);
+        Thread turn = waitInQueue(scheduler, CallPriority.TURN);
+        scheduler.release();
+        ingest.join(5000);
+        turn.join(5000);
+
+        assertThat(grantOrder).containsExactly(CallPriority.TURN, CallPriority.INGEST);
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    @Test
+    void agedRequestIsGrantedBeforeHigherPriority() throws Exception {
+        PythonCallScheduler scheduler = scheduler(1000, 60_000);
+        scheduler.acquire(CallPriority.INGEST);
+
+        Thread ingest = waitInQueue(scheduler, CallPriority.INGEST);
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        Thread turn = waitInQueue(scheduler, CallPriority.TURN);
+        scheduler.release();
+        ingest.join(5000);
+        turn.join(5000);
+
+        assertThat(grantOrder).containsExactly(CallPriority.INGEST, CallPriority.TURN);
+    }
+
+    @Test
+    void givesUpAfterMaxQueueWait() {
+        PythonCallScheduler scheduler = scheduler(60_000, 100);
+        scheduler.acquire(CallPriority.INGEST);
+
+        assertThatThrownBy(() -> scheduler.acquire(CallPriority.TURN))
+                .isInstanceOf(PythonApiBusyException.class)
+                .extracting(e -> ((PythonApiBusyException) e).getRetryAfterSeconds()).isEqualTo(1L);
+
+        // 포기한 요청은 대기열에서 빠지고 허가도 차지하지 않음
+        assertThat(scheduler.queueDepth(CallPriority.TURN)).isZero();
+        assertThat(scheduler.inFlight()).isEqualTo(1);
+        scheduler.release();
+        assertThat(scheduler.inFlight()).isZero();
+    }
+
+    // 동시 호출 한도 1, 모든 우선순위의 최대 대기 시간이 같은 스케줄러
+    private PythonCallScheduler scheduler(long agingMillis, long maxQueueWaitMillis) {
+        Map<CallPriority, Long> maxQueueWait = new EnumMap<>(CallPriority.class);
+        for (CallPriority priority : CallPriority.values()) {
+            maxQueueWait.put(priority, maxQueueWaitMillis);
+        }
+        return new PythonCallScheduler(new SimpleMeterRegistry(), 1, agingMillis, maxQueueWait, clock::get);
+    }
+
+    // 허가를 받으면 순서를 기록하고 바로 반납하는 스레드를 대기열에 넣음
+    private Thread waitInQueue(PythonCallScheduler scheduler, CallPriority priority) throws InterruptedException {
+        int depth = scheduler.queueDepth(priority);
+        Thread thread = new Thread(() -> {
+            scheduler.acquire(priority);
+            grantOrder.add(priority);
+            scheduler.release();
+        });
+        thread.start();
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (scheduler.queueDepth(priority) == depth && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        // 대기열에 들어가지 않았으면 이후 순서 검증이 의미 없으므로 여기서 실패
+        assertThat(scheduler.queueDepth(priority)).as("%s queue depth", priority).isEqualTo(depth + 1);
+        return thread;
+    }
+}
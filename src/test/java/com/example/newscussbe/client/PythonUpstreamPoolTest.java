@@ -0,0 +1,88 @@
+package com.example.newscussbe.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.newscussbe.client.PythonUpstreamPool.Upstream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class PythonUpstreamPoolTest {
+
+    private static final List<String> URLS = List.of("http://fast", "http://medium", "http://slow");
+
+    private final AtomicLong clock = new AtomicLong();
+
+    private PythonUpstreamPool pool() {
+        return new PythonUpstreamPool(URLS, "http://default", 3, 1000, 2000, 2, clock::get);
+    }
+
+    @Test
+    void fallsBackToDefaultBaseUrl() {
+        PythonUpstreamPool pool = new PythonUpstreamPool(List.of(), "http://default", 3, 1000, 2000, 2, clock::get);
+
+        assertThat(pool.acquire(null).baseUrl()).isEqualTo("http://default");
+    }
+
+    @Test
+    void sendsMostTrafficToFasterInstances() {
+        PythonUpstreamPool pool = pool();
+        Map<String, Long> latencyMillis = Map.of("http://fast", 10L, "http://medium", 50L, "http://slow", 250L);
+        Map<String, Integer> counts = new HashMap<>();
+
+        // 요청마다 인스턴스 속도만큼 시간이 흐르는 순차 시뮬레이션
+        for (int i = 0; i < 300; i++) {
+            Upstream upstream = pool.acquire(null);
+            long start = clock.get();
+            clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis.get(upstream.baseUrl())));
+            pool.release(upstream, start, true, true);
+            counts.merge(upstream.baseUrl(), 1, Integer::sum);
+        }
+
+        assertThat(counts.get("http://fast")).isGreaterThan(counts.getOrDefault("http://medium", 0));
+        assertThat(counts.getOrDefault("http://medium", 0)).isGreaterThanOrEqualTo(counts.getOrDefault("http://slow", 0));
+    }
+
+    @Test
+    void ejectsFailingInstanceAndReadmitsItLater() {
+        PythonUpstreamPool pool = pool();
+        Upstream failing = pool.upstreams().get(0);
+
+        // 모두 유휴 상태이면 첫 번째 인스턴스가 선택됨
+        for (int i = 0; i < 3; i++) {
+            Upstream upstream = pool.acquire(null);
+            assertThat(upstream).isSameAs(failing);
+            pool.release(upstream, clock.get(), false, true);
+        }
+
+        for (int i = 0; i < 20; i++) {
+            Upstream upstream = pool.acquire("key-" + i);
+            assertThat(upstream).isNotSameAs(failing);
+            pool.release(upstream, clock.get(), true, false);
+        }
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(1000));
+        assertThat(failing.isAvailable(clock.get())).isTrue();
+        assertThat(failing.weight(clock.get())).isLessThan(1.0);
+
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(2000));
+        assertThat(failing.weight(clock.get())).isEqualTo(1.0);
+    }
+
+    @Test
+    void keepsDebateOnSameInstance() {
+        PythonUpstreamPool pool = pool();
+
+        Upstream first = pool.acquire("session-1");
+        pool.release(first, clock.get(), true, false);
+
+        for (int i = 0; i < 10; i++) {
+            Upstream upstream = pool.acquire("session-1");
+            assertThat(upstream).isSameAs(first);
+            pool.release(upstream, clock.get(), true, false);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.newscussbe.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 동시 SSE 스트림 부하 비교: HTTP/1.1 (브라우저처럼 출처당 연결 6개 / 제한 없음) vs HTTP/2 (h2c, 연결 하나에 다중화)
+ * Python API 없이 전송 계층만 보도록 일정 간격으로 이벤트를 보내는 테스트용 SSE 엔드포인트 사용
+ * ./gradlew benchmark (일반 test 실행에서는 제외)
+ */
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "server.http2.enabled=true")
+class Http2SseLoadBenchmark {
+
+    private static final int STREAMS = 200;
+    private static final int EVENTS_PER_STREAM = 20;
+    private static final long EVENT_INTERVAL_MILLIS = 50;
+    // 브라우저의 HTTP/1.1 출처당 동시 연결 수
+    private static final int BROWSER_CONNECTIONS = 6;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    void comparesConcurrentSseStreamsOverHttp1AndHttp2() throws Exception {
+        System.out.printf("%-10s %12s %8s %10s %12s %12s %10s%n",
+                "protocol", "connections", "streams", "wall ms", "first p50", "first p99", "events");
+        report("HTTP/1.1", "6", run(HttpClient.Version.HTTP_1_1, BROWSER_CONNECTIONS));
+        report("HTTP/1.1", "unlimited", run(HttpClient.Version.HTTP_1_1, STREAMS));
+        report("HTTP/2", "1", run(HttpClient.Version.HTTP_2, STREAMS));
+    }
+
+    private Result run(HttpClient.Version version, int maxConcurrentStreams) throws Exception {
+        HttpClient client = HttpClient.newBuilder().version(version).build();
+        URI uri = URI.create("http://localhost:" + port + "/bench/sse?events=" + EVENTS_PER_STREAM
+                + "&intervalMillis=" + EVENT_INTERVAL_MILLIS);
+
+        // h2c 업그레이드는 연결의 첫 요청에서만 일어나므로 먼저 연결을 만들어 둠
+        HttpResponse<Void> warmup = client.send(HttpRequest.newBuilder(uri).build(),
+                HttpResponse.BodyHandlers.discarding());
+        assertThat(warmup.version()).isEqualTo(version);
+
+        Semaphore connections = new Semaphore(maxConcurrentStreams);
+        ExecutorService executor = Executors.newFixedThreadPool(STREAMS);
+        long start = System.nanoTime();
+        try {
+            List<Future<long[]>> streams = new ArrayList<>();
+            for (int i = 0; i < STREAMS; i++) {
+                streams.add(executor.submit(() -> {
+                    connections.acquire();
+                    try {
+                        return readStream(client, uri, start);
+                    } finally {
+                        connections.release();
+                    }
+                }));
+            }
+
+            long[] firstEventNanos = new long[STREAMS];
+            int events = 0;
+            for (int i = 0; i < STREAMS; i++) {
+                long[] stream = streams.get(i).get(120, TimeUnit.SECONDS);
+                firstEventNanos[i] = stream[0];
+                events += (int) stream[1];
+            }
+            long wallNanos = System.nanoTime() - start;
+            assertThat(events).isEqualTo(STREAMS * EVENTS_PER_STREAM);
+            return new Result(wallNanos, firstEventNanos, events);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // [부하 시작부터 첫 이벤트까지 걸린 나노초, 받은 이벤트 수]
+    private static long[] readStream(HttpClient client, URI uri, long start) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(uri).header("Accept", MediaType.TEXT_EVENT_STREAM_VALUE).build();
+        HttpResponse<Stream<String>> response = client.send(request, HttpResponse.BodyHandlers.ofLines());
+        long firstEvent = -1;
+        long events = 0;
+        try (Stream<String> lines = response.body()) {
+            for (String line : (Iterable<String>) lines::iterator) {
+                if (line.startsWith("data:")) {
+                    if (firstEvent < 0) {
+                        firstEvent = System.nanoTime() - start;
+                    }
+                    events++;
+                }
+            }
+        }
+        return new long[] {firstEvent, events};
+    }
+
+    private static void report(String protocol, String connections, Result result) {
+        long[] sorted = result.firstEventNanos().clone();
+        Arrays.sort(sorted);
+        System.out.printf("%-10s %12s %8d %10d %12d %12d %10d%n", protocol, connections, STREAMS,
+                TimeUnit.NANOSECONDS.toMillis(result.wallNanos()),
+                TimeUnit.NANOSECONDS.toMillis(sorted[sorted.length / 2]),
+                TimeUnit.NANOSECONDS.toMillis(sorted[(int) (sorted.length * 0.99)]),
+                result.events());
+    }
+
+    private record Result(long wallNanos, long[] firstEventNanos, int events) {
+    }
+
+    @TestConfiguration
+    static class SseBenchConfig {
+
+        @Bean
+        SseBenchController sseBenchController() {
+            return new SseBenchController();
+        }
+    }
+
+    @RestController
+    static class SseBenchController {
+
+        private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(4);
+
+        @GetMapping(value = "/bench/sse", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+        SseEmitter stream(@RequestParam int events, @RequestParam long intervalMillis) {
+            SseEmitter emitter = new SseEmitter(60_000L);
+            AtomicInteger sent = new AtomicInteger();
+            AtomicReference<ScheduledFuture<?>> task = new AtomicReference<>();
+            task.set(scheduler.scheduleAtFixedRate(() -> {
+                try {
+                    int index = sent.incrementAndGet();
+                    if (index > events) {
+                        task.get().cancel(false);
+                        emitter.complete();
+                        return;
+                    }
+                    emitter.send(SseEmitter.event().data("{\"type\":\"chunk\",\"index\":" + index + "}"));
+                } catch (Exception e) {
+                    task.get().cancel(false);
+                    emitter.completeWithError(e);
+                }
+            }, 0, intervalMillis, TimeUnit.MILLISECONDS));
+            return emitter;
+        }
+    }
+}
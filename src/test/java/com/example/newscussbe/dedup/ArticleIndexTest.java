@@ -0,0 +1,53 @@
+package com.example.newscussbe.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.newscussbe.dto.KeywordSummaryResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Test;
+
+class ArticleIndexTest {
+
+    private static final long URL_TTL_MILLIS = 60_000;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final ArticleIndex index = new ArticleIndex(new SimpleMeterRegistry(), true, 10, 4, 2,
+            URL_TTL_MILLIS, 2, clock::get);
+
+    @Test
+    void reusesSameUrlOnlyWithinTtl() {
+        index.register("https://news.example.com/a?utm_source=x", extraction("요약"));
+
+        advance(URL_TTL_MILLIS - 1);
+        assertThat(index.findByUrl("https://news.example.com/a")).isPresent();
+
+        advance(1);
+        assertThat(index.findByUrl("https://news.example.com/a")).isEmpty();
+    }
+
+    @Test
+    void keepsOnlyLatestUrlsPerArticle() {
+        ArticleIndex.Article article = index.register("https://a.example.com/1", extraction("같은 기사"));
+        assertThat(index.register("https://b.example.com/1", extraction("같은 기사"))).isSameAs(article);
+        assertThat(index.register("https://c.example.com/1", extraction("같은 기사"))).isSameAs(article);
+
+        // 최대 2개: 가장 먼저 연결된 URL부터 해제
+        assertThat(index.findByUrl("https://a.example.com/1")).isEmpty();
+        assertThat(index.findByUrl("https://b.example.com/1")).containsSame(article);
+        assertThat(index.findByUrl("https://c.example.com/1")).containsSame(article);
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static KeywordSummaryResponseDto extraction(String summary) {
+        return KeywordSummaryResponseDto.builder()
+                .summary(summary)
+                .keywords(List.of("키워드"))
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.newscussbe.dedup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SimHashIndexTest {
+
+    @Test
+    void findsFingerprintWithinMaxDistance() {
+        SimHashIndex<String> index = new SimHashIndex<>(10, 4, 3);
+        long fingerprint = 0x0123456789abcdefL;
+        index.add(fingerprint, "original");
+
+        // 네 구간 모두에 한 비트씩 차이 (거리 3)
+        long near = fingerprint ^ 1L ^ (1L << 20) ^ (1L << 40);
+        SimHashIndex.Match<String> match = index.findNearest(near);
+
+        assertThat(match).isNotNull();
+        assertThat(match.value()).isEqualTo("original");
+        assertThat(match.distance()).isEqualTo(3);
+        assertThat(index.findNearest(near ^ (1L << 60))).isNull();
+    }
+
+    @Test
+    void evictsOldestWhenFull() {
+        SimHashIndex<String> index = new SimHashIndex<>(2, 4, 0);
+        index.add(1L, "first");
+        index.add(2L, "second");
+
+        assertThat(index.add(3L, "third")).isEqualTo("first");
+        assertThat(index.findNearest(1L)).isNull();
+        assertThat(index.findNearest(2L).value()).isEqualTo("second");
+        assertThat(index.findNearest(3L).value()).isEqualTo("third");
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    void rewordedSummaryStaysClose() {
+        String summary = "정부는 19일 서울과 수도권 아파트 가격 급등을 막기 위해 주택담보대출 규제를 강화하는 부동산 대책을 발표했다.";
+        String reworded = "정부가 19일 수도권과 서울 아파트값 급등을 막기 위한 부동산 대책을 발표하며 주택담보대출 규제를 강화했다.";
+        String unrelated = "한국은행은 기준금리를 동결했다. 물가 상승세가 둔화되고 있지만 가계부채 증가세가 여전히 높다고 판단했다.";
+        List<String> keywords = List.of("부동산", "대출 규제", "아파트");
+
+        long original = SimHash.fingerprint(summary, keywords);
+
+        assertThat(SimHash.distance(original, SimHash.fingerprint(reworded, keywords)))
+                .isLessThan(SimHash.distance(original, SimHash.fingerprint(unrelated, List.of("금리"))));
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.newscussbe.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import org.junit.jupiter.api.Test;
+
+class ArticleFetcherTest {
+
+    private final ArticleFetcher fetcher = new ArticleFetcher(InetAddress::getAllByName, 1000, 1000);
+
+    @Test
+    void acceptsPublicHttpAddresses() {
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://8.8.8.8/news/1"))).isNotNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("https://1.1.1.1/"))).isNotNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("https://[2606:4700:4700::1111]/"))).isNotNull();
+    }
+
+    @Test
+    void rejectsInternalAddressesAndOtherSchemes() {
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://127.0.0.1:8080/actuator"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://0.0.0.0/"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://10.0.0.5/"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://192.168.0.1/"))).isNull();
+        // 클라우드 메타데이터 주소 (링크 로컬)
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://169.254.169.254/latest/meta-data"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://[::1]/"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("http://[fd00::1]/"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("file:///etc/passwd"))).isNull();
+        assertThat(fetcher.resolvePublicAddress(URI.create("ftp://8.8.8.8/"))).isNull();
+    }
+
+    @Test
+    void rejectsSpecialPurposeAndEmbeddedIpv4Ranges() throws Exception {
+        for (String address : new String[] {"0.1.2.3", "100.64.0.1", "100.127.255.254", "192.0.0.8",
+                "198.18.0.1", "198.19.255.254", "240.0.0.1", "255.255.255.255",
+                "::ffff:10.0.0.1", "::ffff:169.254.169.254", "::10.0.0.1",
+                "64:ff9b::a00:1", "64:ff9b:1::a00:1", "2002:a00:1::1"}) {
+            assertThat(ArticleFetcher.isPublicAddress(InetAddress.getByName(address))).as(address).isFalse();
+        }
+        assertThat(ArticleFetcher.isPublicAddress(InetAddress.getByName("100.128.0.1"))).isTrue();
+        assertThat(ArticleFetcher.isPublicAddress(InetAddress.getByName("198.20.0.1"))).isTrue();
+        assertThat(ArticleFetcher.isPublicAddress(InetAddress.getByName("2002:808:808::1"))).isTrue();
+    }
+
+    @Test
+    void neverConnectsWhenHostResolvesToPrivateAddress() throws Exception {
+        try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+            server.setSoTimeout(200);
+            String url = "http://news.example.com:" + server.getLocalPort() + "/article";
+            // DNS 응답을 내부 주소로 바꾼 호스트
+            ArticleFetcher rebound = new ArticleFetcher(
+                    host -> new InetAddress[] {InetAddress.getLoopbackAddress()}, 1000, 1000);
+            // 공개 주소와 내부 주소를 함께 돌려주는 호스트
+            ArticleFetcher mixed = new ArticleFetcher(host -> new InetAddress[] {
+                    InetAddress.getByName("8.8.8.8"), InetAddress.getLoopbackAddress()}, 1000, 1000);
+
+            assertThat(rebound.fetch(url)).isEmpty();
+            assertThat(mixed.fetch(url)).isEmpty();
+            assertThatThrownBy(server::accept).isInstanceOf(SocketTimeoutException.class);
+        }
+    }
+}
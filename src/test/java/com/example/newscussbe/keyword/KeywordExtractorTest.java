@@ -0,0 +1,30 @@
+package com.example.newscussbe.keyword;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class KeywordExtractorTest {
+
+    private final KoreanTokenizer tokenizer = new KoreanTokenizer(Set.of("있다", "밝혔다"));
+
+    @Test
+    void stripsParticlesAndPredicateEndings() {
+        assertThat(tokenizer.tokenize("정부가 부동산 대책을 발표했다. 대출 규제는 강화된다고 밝혔다"))
+                .containsExactly("정부", "부동산", "대책", "발표", "대출", "규제", "강화");
+        // 남는 어간이 한 글자면 떼지 않음
+        assertThat(tokenizer.tokenize("국가의 미래가 있다")).containsExactly("국가", "미래");
+    }
+
+    @Test
+    void ranksRareRepeatedTermsFirst() {
+        DocumentFrequencyTable table = new DocumentFrequencyTable(10000, Map.of("정부", 3000, "발표", 2500));
+        KeywordExtractor extractor = new KeywordExtractor(tokenizer, table, 2);
+
+        assertThat(extractor.extract("정부, 전세사기 대책 발표",
+                "정부가 전세사기 피해 대책을 발표했다. 전세사기 피해자는 정부 지원을 받는다."))
+                .containsExactly("전세사기", "대책");
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.newscussbe.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.newscussbe.dto.MessageRequestDto;
+import com.example.newscussbe.exception.RateLimitExceededException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+class RateLimitRequestBodyAdviceTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(new MockEnvironment()
+            .withProperty("newscuss.rate-limit.turn.rate-per-second", "0.001")
+            .withProperty("newscuss.rate-limit.turn.burst", "1"), 600_000);
+    private final RateLimitRequestBodyAdvice advice = new RateLimitRequestBodyAdvice(rateLimiter, true);
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void limitsSessionFromRequestBodyAcrossClients() {
+        MessageRequestDto body = new MessageRequestDto("session-1", "메시지");
+
+        assertThat(readBody("10.0.0.1", body)).isSameAs(body);
+
+        // 다른 IP에서 보내도 같은 세션의 버킷이 비어 있으면 거절
+        assertThatThrownBy(() -> readBody("10.0.0.2", body))
+                .isInstanceOf(RateLimitExceededException.class);
+        assertThat(readBody("10.0.0.3", new MessageRequestDto("session-2", "메시지"))).isNotNull();
+    }
+
+    private Object readBody(String remoteAddr, MessageRequestDto body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/discussion/message");
+        request.setRemoteAddr(remoteAddr);
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+        return advice.afterBodyRead(body, null, null, MessageRequestDto.class, null);
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.newscussbe.ratelimit;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * 높은 QPS에서 요청 제한 비용 측정 (./gradlew benchmark, 일반 test 실행에서는 제외)
+ * - 허용: 토큰이 충분해 매번 CAS로 기록 / 거절: 토큰이 없어 확인만 함
+ * - 클라이언트별 키(경합 없음)와 모든 스레드가 같은 세션 키를 쓰는 경우(최대 경합)를 스레드 수별로 비교
+ */
+@Tag("benchmark")
+class RateLimiterBenchmark {
+
+    private static final long WARMUP_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MEASURE_NANOS = TimeUnit.SECONDS.toNanos(2);
+
+    @Test
+    void limiterOverheadUnderContention() throws Exception {
+        RateLimiter allowing = limiter("1000000000", "1000000");
+        RateLimiter rejecting = limiter("0.001", "1");
+        rejecting.tryAcquire(EndpointClass.TURN, List.of("ip:shared", "session:shared"), 1);
+
+        int maxThreads = Math.max(Runtime.getRuntime().availableProcessors(), 4);
+        System.out.printf("%-10s %-8s %8s %14s %10s%n", "result", "keys", "threads", "ops/s", "ns/op");
+        for (int threads = 1; threads <= maxThreads; threads *= 2) {
+            report("allowed", "distinct", threads, run(allowing, threads, false));
+            report("allowed", "shared", threads, run(allowing, threads, true));
+            report("rejected", "shared", threads, run(rejecting, threads, true));
+        }
+    }
+
+    private static RateLimiter limiter(String ratePerSecond, String burst) {
+        return new RateLimiter(new MockEnvironment()
+                .withProperty("newscuss.rate-limit.turn.rate-per-second", ratePerSecond)
+                .withProperty("newscuss.rate-limit.turn.burst", burst), 600_000);
+    }
+
+    // 스레드마다 워밍업 후 측정 시간 동안 호출한 횟수의 합
+    private static long run(RateLimiter rateLimiter, int threads, boolean sharedKeys) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CyclicBarrier start = new CyclicBarrier(threads);
+        try {
+            List<Future<Long>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                List<String> keys = sharedKeys
+                        ? List.of("ip:shared", "session:shared")
+                        : List.of("ip:client-" + t, "session:session-" + t);
+                results.add(executor.submit(() -> {
+                    start.await();
+                    loop(rateLimiter, keys, WARMUP_NANOS);
+                    return loop(rateLimiter, keys, MEASURE_NANOS);
+                }));
+            }
+            long total = 0;
+            for (Future<Long> result : results) {
+                total += result.get();
+            }
+            return total;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static long loop(RateLimiter rateLimiter, List<String> keys, long durationNanos) {
+        long deadline = System.nanoTime() + durationNanos;
+        long operations = 0;
+        long sink = 0;
+        while (System.nanoTime() < deadline) {
+            for (int i = 0; i < 100; i++) {
+                sink += rateLimiter.tryAcquire(EndpointClass.TURN, keys, 1);
+            }
+            operations += 100;
+        }
+        return sink == Long.MIN_VALUE ? 0 : operations;
+    }
+
+    private static void report(String result, String keys, int threads, long operations) {
+        double opsPerSecond = operations / (MEASURE_NANOS / 1e9);
+        double nanosPerOp = threads * 1e9 / opsPerSecond;
+        System.out.printf("%-10s %-8s %8d %,14.0f %10.1f%n", result, keys, threads, opsPerSecond, nanosPerOp);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.newscussbe.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+class RateLimiterTest {
+
+    private final RateLimiter rateLimiter = new RateLimiter(new MockEnvironment()
+            .withProperty("newscuss.rate-limit.ingest.rate-per-second", "0.001")
+            .withProperty("newscuss.rate-limit.ingest.burst", "3"), 600_000);
+
+    @Test
+    void takesNoTokenWhenAnyKeyIsExhausted() {
+        assertThat(rateLimiter.tryAcquire(EndpointClass.INGEST, List.of("ip:a"), 3)).isZero();
+
+        // ip:a가 비었으므로 session:s의 토큰도 쓰지 않음
+        assertThat(rateLimiter.tryAcquire(EndpointClass.INGEST, List.of("session:s", "ip:a"), 1)).isPositive();
+        assertThat(rateLimiter.tryAcquire(EndpointClass.INGEST, List.of("session:s"), 3)).isZero();
+    }
+}
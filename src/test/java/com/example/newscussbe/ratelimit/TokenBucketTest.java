@@ -0,0 +1,116 @@
+package com.example.newscussbe.ratelimit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class TokenBucketTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+    private static final RateLimiter.Limit LIMIT = RateLimiter.Limit.of(2.0, 5);
+
+    @Test
+    void allowsBurstThenRefillsAtRate() {
+        TokenBucket bucket = new TokenBucket();
+        long now = 10 * SECOND;
+
+        for (int i = 0; i < 5; i++) {
+            assertThat(acquire(bucket, now)).isZero();
+        }
+        long wait = acquire(bucket, now);
+        assertThat(wait).isPositive().isLessThanOrEqualTo(SECOND / 2);
+
+        assertThat(acquire(bucket, now + wait)).isZero();
+        assertThat(acquire(bucket, now + wait)).isPositive();
+    }
+
+    @Test
+    void grantsExactlyBurstUnderContention() throws Exception {
+        TokenBucket bucket = new TokenBucket();
+        long now = 10 * SECOND;
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    int granted = 0;
+                    for (int i = 0; i < 10_000; i++) {
+                        if (acquire(bucket, now) == 0) {
+                            granted++;
+                        }
+                    }
+                    return granted;
+                }));
+            }
+            start.countDown();
+
+            int total = 0;
+            for (Future<Integer> result : results) {
+                total += result.get(30, TimeUnit.SECONDS);
+            }
+            assertThat(total).isEqualTo(5);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void chargesEveryPermitOfMultiTokenRequest() {
+        TokenBucket bucket = new TokenBucket();
+        long now = 10 * SECOND;
+        long interval = LIMIT.emissionIntervalNanos();
+        long tolerance = LIMIT.burstToleranceNanos();
+
+        assertThat(bucket.tryAcquire(now, interval, tolerance, 3)).isZero();
+        assertThat(bucket.peek(now, interval, tolerance, 3)).isPositive();
+        assertThat(bucket.tryAcquire(now, interval, tolerance, 2)).isZero();
+        assertThat(acquire(bucket, now)).isPositive();
+
+        // burst보다 큰 요청은 가득 찬 버킷에서만 허용되고, 넘은 분량만큼 다음 요청이 기다림
+        TokenBucket large = new TokenBucket();
+        assertThat(large.tryAcquire(now, interval, tolerance, 8)).isZero();
+        assertThat(acquire(large, now)).isEqualTo(4 * interval);
+    }
+
+    @Test
+    void becomesIdleOnceRefilled() {
+        TokenBucket bucket = new TokenBucket();
+        long now = 10 * SECOND;
+        acquire(bucket, now);
+
+        assertThat(bucket.isIdle(now, SECOND)).isFalse();
+        assertThat(bucket.isIdle(now + 2 * SECOND, SECOND)).isTrue();
+    }
+
+    @Test
+    void retiredBucketRefusesFurtherUse() {
+        TokenBucket bucket = new TokenBucket();
+        long now = 10 * SECOND;
+        acquire(bucket, now);
+
+        assertThat(bucket.retireIfIdle(now, SECOND)).isFalse();
+        assertThat(bucket.retireIfIdle(now + 2 * SECOND, SECOND)).isTrue();
+        assertThat(bucket.retireIfIdle(now + 2 * SECOND, SECOND)).isFalse();
+
+        // 제거 표시 뒤에는 토큰을 쓰지 않고 다시 시도하도록 알림
+        assertThat(acquire(bucket, now + 2 * SECOND)).isEqualTo(TokenBucket.RETIRED);
+        assertThat(bucket.peek(now + 2 * SECOND, LIMIT.emissionIntervalNanos(), LIMIT.burstToleranceNanos(), 1))
+                .isEqualTo(TokenBucket.RETIRED);
+        assertThat(bucket.isIdle(now + 2 * SECOND, SECOND)).isFalse();
+    }
+
+    private static long acquire(TokenBucket bucket, long now) {
+        return bucket.tryAcquire(now, LIMIT.emissionIntervalNanos(), LIMIT.burstToleranceNanos());
+    }
+}
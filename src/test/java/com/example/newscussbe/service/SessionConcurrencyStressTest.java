@@ -0,0 +1,347 @@
+package com.example.newscussbe.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.when;
+
+import com.example.newscussbe.client.PythonApiClient;
+import com.example.newscussbe.digest.DigestPipeline;
+import com.example.newscussbe.dto.Message;
+import com.example.newscussbe.dto.SessionMessagesResponseDto;
+import com.example.newscussbe.dto.SessionStatusResponseDto;
+import com.example.newscussbe.session.SessionData;
+import com.example.newscussbe.session.SessionIdGenerator;
+import com.example.newscussbe.session.SessionStore;
+import com.example.newscussbe.stream.StreamEvent;
+import com.example.newscussbe.stream.StreamListener;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.web.client.ResponseExtractor;
+
+/**
+ * 한 세션에 동기/스트리밍 턴, 토론 재시작, 조회를 동시에 실행하고 대화 기록의 불변 조건 확인
+ * - 잃어버린 메시지 없음, 작업자별 메시지 순서 유지, 예외 없음
+ * - AI 응답은 Python API에 보낸 마지막 사용자 메시지를 가리키며, 그 메시지가 같은 대화 기록에 먼저 있어야 함
+ *   (재시작 전 토론의 늦은 응답이 새 토론에 섞이면 깨짐)
+ * - 요약본 갱신이 함께 돌 때 Python API에 보낸 요약본 + 나머지 메시지가 대화 기록의 앞부분과 일치해야 함
+ */
+@SpringBootTest
+class SessionConcurrencyStressTest {
+
+    private static final int WORKERS = 8;
+    private static final int TURNS_PER_WORKER = 200;
+    private static final int RESTARTS = 50;
+    private static final long TIMEOUT_SECONDS = 60;
+
+    @MockitoBean
+    private PythonApiClient pythonApiClient;
+
+    @Autowired
+    private NewscussService newscussService;
+
+    @Autowired
+    private SessionStore sessionStore;
+
+    @Autowired
+    private SessionIdGenerator sessionIdGenerator;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // Python API에 보낸 대화 (요약본에 담긴 메시지 + 나머지 메시지의 내용)
+    private final ConcurrentLinkedQueue<List<String>> sentConversations = new ConcurrentLinkedQueue<>();
+    private String sessionId;
+
+    @BeforeEach
+    void setUp() {
+        when(pythonApiClient.startDiscussion(any(), any(), any(), any())).thenReturn("opener");
+        when(pythonApiClient.getAiResponse(any(), any(), any(), any(), any(), any(), any()))
+                .thenAnswer(invocation -> {
+                    jitter();
+                    recordSent(invocation.getArgument(5), invocation.getArgument(6));
+                    return replyTo(invocation.getArgument(6));
+                });
+        doAnswer(invocation -> {
+            jitter();
+            recordSent(invocation.getArgument(5), invocation.getArgument(6));
+            String reply = replyTo(invocation.getArgument(6));
+            ResponseExtractor<Void> extractor = invocation.getArgument(7);
+            extractor.extractData(sseResponse(reply));
+            return null;
+        }).when(pythonApiClient).streamAiResponse(any(), any(), any(), any(), any(), any(), any(), any());
+        // 요약본은 반영한 메시지 내용을 줄 단위로 이어 붙인 것
+        when(pythonApiClient.updateDigest(any(), any(), any(), any(), any(), anyList()))
+                .thenAnswer(invocation -> {
+                    jitter();
+                    String previous = invocation.getArgument(4);
+                    List<Message> messages = invocation.getArgument(5);
+                    String added = String.join("\n", messages.stream().map(Message::getContent).toList());
+                    return previous == null ? added : previous + "\n" + added;
+                });
+
+        sessionId = sessionIdGenerator.newSessionId();
+        SessionData sessionData = new SessionData();
+        sessionData.setTopic("주제");
+        sessionStore.save(sessionId, sessionData);
+        newscussService.startDiscussion(sessionId, "주제", "찬성", "중");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+        sessionStore.delete(sessionId);
+    }
+
+    @Test
+    void concurrentTurnsKeepEveryMessageInOrder() throws Exception {
+        AtomicBoolean running = new AtomicBoolean(true);
+        ConcurrentLinkedQueue<Throwable> readerErrors = new ConcurrentLinkedQueue<>();
+        Future<?> reader = executor.submit(() -> readWhileRunning(running, readerErrors));
+
+        runWorkers(null);
+        running.set(false);
+        reader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        assertThat(readerErrors).isEmpty();
+
+        List<Message> messages = messages();
+        // opener + 턴마다 사용자/AI 메시지 하나씩
+        assertThat(messages).hasSize(1 + 2 * WORKERS * TURNS_PER_WORKER);
+        assertThat(messages.get(0).getContent()).isEqualTo("opener");
+        assertWorkerOrder(messages, TURNS_PER_WORKER);
+        assertRepliesFollowTheirPrompt(messages);
+        assertThat(newscussService.getSessionStatus(sessionId).getMessageCount()).isEqualTo(messages.size());
+    }
+
+    @Test
+    void restartDiscardsRepliesFromThePreviousDiscussion() throws Exception {
+        Future<?> restarter = executor.submit(() -> {
+            for (int i = 0; i < RESTARTS; i++) {
+                newscussService.startDiscussion(sessionId, "주제", "찬성", "중");
+                jitter();
+            }
+            return null;
+        });
+
+        runWorkers(restarter);
+
+        List<Message> messages = messages();
+        assertThat(messages).filteredOn(message -> "opener".equals(message.getContent())).hasSize(1);
+        assertWorkerOrder(messages, -1);
+        assertRepliesFollowTheirPrompt(messages);
+        assertThat(messages).filteredOn(message -> "user".equals(message.getRole()))
+                .hasSameSizeAs(messages.stream().filter(message -> message.getContent().startsWith("re:")).toList());
+    }
+
+    @Test
+    void digestUpdatesInterleavedWithTurnsKeepPromptsConsistent() throws Exception {
+        // 서비스의 요약본 갱신은 꺼져 있으므로, 같은 세션 저장소를 쓰는 파이프라인을 따로 켜서 턴 사이에 계속 실행
+        DigestPipeline digestPipeline = new DigestPipeline(pythonApiClient, sessionStore, new SimpleMeterRegistry(),
+                executor, true, 0, 4, 2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Future<?> digester = executor.submit(() -> {
+            while (running.get()) {
+                digestPipeline.onTurnCompleted(sessionId);
+                jitter();
+            }
+            return null;
+        });
+
+        runWorkers(null);
+        running.set(false);
+        digester.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+        SessionData.Conversation conversation = sessionStore.find(sessionId).orElseThrow().conversation();
+        List<String> contents = conversation.messages().stream().map(Message::getContent).toList();
+        assertThat(contents).hasSize(1 + 2 * WORKERS * TURNS_PER_WORKER);
+        assertWorkerOrder(conversation.messages(), TURNS_PER_WORKER);
+
+        // 요약본은 정확히 앞쪽 digestedMessageCount개 메시지를 담고 있어야 함
+        assertThat(conversation.digest()).isNotNull();
+        assertThat(digestLines(conversation.digest()))
+                .isEqualTo(contents.subList(0, conversation.digestedMessageCount()));
+
+        // 턴마다 보낸 요약본 + 나머지 메시지는 빠지거나 겹침 없이 대화 기록의 앞부분이어야 함
+        assertThat(sentConversations).hasSize(WORKERS * TURNS_PER_WORKER);
+        for (List<String> sent : sentConversations) {
+            assertThat(contents.subList(0, sent.size())).isEqualTo(sent);
+        }
+    }
+
+    // 작업자마다 순서대로 턴을 보내고 (짝수는 동기, 홀수는 스트리밍), 모든 작업자가 끝날 때까지 대기
+    private void runWorkers(Future<?> concurrentTask) throws Exception {
+        CyclicBarrier start = new CyclicBarrier(WORKERS);
+        List<Future<?>> workers = new ArrayList<>();
+        for (int w = 0; w < WORKERS; w++) {
+            int worker = w;
+            workers.add(executor.submit(() -> {
+                start.await();
+                for (int turn = 0; turn < TURNS_PER_WORKER; turn++) {
+                    String content = "w" + worker + "-" + turn;
+                    if (turn % 2 == 0) {
+                        newscussService.processMessage(sessionId, content, null);
+                    } else {
+                        streamTurn(content);
+                    }
+                }
+                return null;
+            }));
+        }
+
+        if (concurrentTask != null) {
+            concurrentTask.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+        for (Future<?> worker : workers) {
+            worker.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        }
+    }
+
+    private void streamTurn(String content) throws Exception {
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        newscussService.processMessageStream(sessionId, content, null, new StreamListener() {
+            @Override
+            public void onEvent(StreamEvent event) {
+                if (event.data().contains("\"type\":\"error\"")) {
+                    done.completeExceptionally(new AssertionError("Stream failed: " + event.data()));
+                }
+            }
+
+            @Override
+            public void onComplete() {
+                done.complete(null);
+            }
+
+            @Override
+            public void onError(Throwable error) {
+                done.completeExceptionally(error);
+            }
+        });
+        done.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    // 상태, 페이지, 전체 JSON을 반복해서 읽으며 예외와 버전 역행이 없는지 확인
+    private void readWhileRunning(AtomicBoolean running, ConcurrentLinkedQueue<Throwable> errors) {
+        long lastVersion = 0;
+        while (running.get()) {
+            try {
+                SessionStatusResponseDto status = newscussService.getSessionStatus(sessionId);
+                assertThat(status.getVersion()).isGreaterThanOrEqualTo(lastVersion);
+                lastVersion = status.getVersion();
+
+                int after = ThreadLocalRandom.current().nextInt(status.getMessageCount() + 1);
+                SessionMessagesResponseDto page = newscussService.getSessionMessages(sessionId, after, 50);
+                assertThat(page.getNextCursor()).isBetween(after, page.getTotal());
+                assertThat(page.getMessages()).doesNotContainNull();
+
+                ByteArrayOutputStream out = new ByteArrayOutputStream();
+                newscussService.writeSession(sessionId, out);
+                objectMapper.readTree(out.toString(StandardCharsets.UTF_8));
+            } catch (Throwable e) {
+                errors.add(e);
+                return;
+            }
+        }
+    }
+
+    private List<Message> messages() {
+        return sessionStore.find(sessionId).orElseThrow().conversation().messages();
+    }
+
+    // 각 작업자의 사용자 메시지는 보낸 순서대로, 한 번씩만 있어야 함 (expectedPerWorker < 0이면 개수는 확인하지 않음)
+    private static void assertWorkerOrder(List<Message> messages, int expectedPerWorker) {
+        Map<String, Integer> lastTurn = new HashMap<>();
+        Map<String, Integer> counts = new HashMap<>();
+        for (Message message : messages) {
+            if (!"user".equals(message.getRole())) {
+                continue;
+            }
+            String[] parts = message.getContent().split("-");
+            int turn = Integer.parseInt(parts[1]);
+            Integer previous = lastTurn.put(parts[0], turn);
+            assertThat(previous == null || previous < turn)
+                    .as("order of %s after turn %s", message.getContent(), previous)
+                    .isTrue();
+            counts.merge(parts[0], 1, Integer::sum);
+        }
+        if (expectedPerWorker >= 0) {
+            assertThat(counts).hasSize(WORKERS);
+            assertThat(counts.values()).containsOnly(expectedPerWorker);
+        }
+    }
+
+    private static void assertRepliesFollowTheirPrompt(List<Message> messages) {
+        Map<String, Integer> userIndex = new HashMap<>();
+        for (int i = 0; i < messages.size(); i++) {
+            Message message = messages.get(i);
+            if ("user".equals(message.getRole())) {
+                userIndex.put(message.getContent(), i);
+            } else if (message.getContent().startsWith("re:")) {
+                String prompt = message.getContent().substring(3);
+                assertThat(userIndex).as("prompt of reply at %d", i).containsKey(prompt);
+            }
+        }
+    }
+
+    private void recordSent(String digest, List<Message> undigested) {
+        List<String> sent = new ArrayList<>(digestLines(digest));
+        undigested.forEach(message -> sent.add(message.getContent()));
+        sentConversations.add(sent);
+    }
+
+    private static List<String> digestLines(String digest) {
+        return digest == null ? List.of() : Arrays.asList(digest.split("\n"));
+    }
+
+    // Python API에 전달된 마지막 사용자 메시지에 대한 응답
+    private static String replyTo(List<Message> messages) {
+        for (int i = messages.size() - 1; i >= 0; i--) {
+            if ("user".equals(messages.get(i).getRole())) {
+                return "re:" + messages.get(i).getContent();
+            }
+        }
+        return "re:-";
+    }
+
+    private MockClientHttpResponse sseResponse(String reply) throws Exception {
+        String body = "data: " + objectMapper.writeValueAsString(Map.of("type", "chunk", "content", reply)) + "\n\n"
+                + "data: " + objectMapper.writeValueAsString(Map.of("type", "end")) + "\n\n";
+        return new MockClientHttpResponse(body.getBytes(StandardCharsets.UTF_8), HttpStatus.OK);
+    }
+
+    // 경합 구간을 넓히기 위한 짧은 대기
+    private static void jitter() throws InterruptedException {
+        int roll = ThreadLocalRandom.current().nextInt(8);
+        if (roll == 0) {
+            Thread.sleep(1);
+        } else if (roll < 3) {
+            Thread.yield();
+        }
+    }
+}
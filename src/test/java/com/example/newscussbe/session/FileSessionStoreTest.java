@@ -0,0 +1,88 @@
+package com.example.newscussbe.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.example.newscussbe.dto.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FileSessionStoreTest {
+
+    private static final long EXPIRE_MILLIS = 60_000;
+
+    @TempDir
+    Path directory;
+
+    private final SessionIdGenerator nodeA = new SessionIdGenerator("a");
+
+    private FileSessionStore store(String nodeId) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        return new FileSessionStore(objectMapper, new SessionIdGenerator(nodeId), directory.toString(),
+                EXPIRE_MILLIS, EXPIRE_MILLIS);
+    }
+
+    @Test
+    void ownerSeesSaveFromOtherNode() throws Exception {
+        FileSessionStore owner = store("a");
+        FileSessionStore other = store("b");
+        String sessionId = nodeA.newSessionId();
+        owner.save(sessionId, session("이전 주제"));
+        assertThat(owner.find(sessionId).orElseThrow().getTopic()).isEqualTo("이전 주제");
+
+        SessionData copy = other.find(sessionId).orElseThrow();
+        copy.setTopic("새 주제");
+        other.save(sessionId, copy);
+
+        SessionData reloaded = owner.find(sessionId).orElseThrow();
+        assertThat(reloaded.getTopic()).isEqualTo("새 주제");
+        assertThat(reloaded.getVersion()).isEqualTo(2);
+    }
+
+    @Test
+    void refusesSaveOfInstanceOlderThanStoredFile() throws Exception {
+        FileSessionStore owner = store("a");
+        FileSessionStore other = store("b");
+        String sessionId = nodeA.newSessionId();
+        owner.save(sessionId, session("이전 주제"));
+        SessionData stale = owner.find(sessionId).orElseThrow();
+
+        SessionData copy = other.find(sessionId).orElseThrow();
+        copy.setTopic("새 주제");
+        other.save(sessionId, copy);
+
+        // 다른 노드가 저장하기 전에 읽은 객체로 덮어쓰면 그 노드의 변경이 사라짐
+        assertThatThrownBy(() -> owner.save(sessionId, stale)).isInstanceOf(IllegalStateException.class);
+        assertThat(owner.find(sessionId).orElseThrow().getTopic()).isEqualTo("새 주제");
+    }
+
+    @Test
+    void deletesSessionFilesNotSavedWithinExpiry() throws Exception {
+        FileSessionStore owner = store("a");
+        String expired = nodeA.newSessionId();
+        String recent = nodeA.newSessionId();
+        owner.save(expired, session("오래된 주제"));
+        owner.save(recent, session("최근 주제"));
+        Files.setLastModifiedTime(directory.resolve(expired + ".json"),
+                FileTime.fromMillis(System.currentTimeMillis() - EXPIRE_MILLIS - 1));
+
+        owner.evictExpired();
+
+        assertThat(owner.find(expired)).isEmpty();
+        assertThat(owner.find(recent)).isPresent();
+    }
+
+    private static SessionData session(String topic) {
+        SessionData sessionData = new SessionData();
+        sessionData.setTopic(topic);
+        sessionData.setMessages(List.of(new Message("user", "메시지", LocalDateTime.now())));
+        return sessionData;
+    }
+}
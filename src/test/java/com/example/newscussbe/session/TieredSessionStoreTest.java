@@ -0,0 +1,187 @@
+package com.example.newscussbe.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.example.newscussbe.dto.Message;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class TieredSessionStoreTest {
+
+    private static final long IDLE_MILLIS = 10_000;
+    private static final long PRESSURE_MIN_IDLE_MILLIS = 1_000;
+
+    @TempDir
+    Path directory;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private double heapOccupancy = 0.1;
+    private TieredSessionStore store;
+
+    private TieredSessionStore store(long segmentSizeBytes) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        store = new TieredSessionStore(objectMapper, meterRegistry, directory, IDLE_MILLIS, 0.7,
+                PRESSURE_MIN_IDLE_MILLIS, 0.5, segmentSizeBytes, clock::get, () -> heapOccupancy);
+        return store;
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        if (store != null) {
+            store.close();
+        }
+    }
+
+    @Test
+    void spillsIdleSessionAndPromotesItOnAccess() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        store.save("a", session("토론 주제", "첫 메시지"));
+
+        advance(IDLE_MILLIS);
+        store.spillIdle();
+
+        assertThat(store.hotSize()).isZero();
+        assertThat(store.coldSize()).isEqualTo(1);
+
+        SessionData promoted = store.find("a").orElseThrow();
+        assertThat(promoted.getTopic()).isEqualTo("토론 주제");
+        assertThat(promoted.getMessages()).extracting(Message::getContent).containsExactly("첫 메시지");
+        assertThat(promoted.getVersion()).isEqualTo(1);
+        assertThat(store.hotSize()).isEqualTo(1);
+        assertThat(store.coldSize()).isZero();
+    }
+
+    @Test
+    void keepsRecentlyUsedSessionsOnHeap() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        store.save("a", session("주제", "메시지"));
+
+        advance(IDLE_MILLIS - 1);
+        store.find("a");
+        advance(IDLE_MILLIS - 1);
+        store.spillIdle();
+
+        assertThat(store.hotSize()).isEqualTo(1);
+        assertThat(store.coldSize()).isZero();
+    }
+
+    @Test
+    void spillsLeastRecentlyUsedUnderHeapPressure() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        for (String sessionId : List.of("oldest", "older", "newer", "newest")) {
+            store.save(sessionId, session(sessionId, "메시지"));
+            advance(PRESSURE_MIN_IDLE_MILLIS);
+        }
+
+        heapOccupancy = 0.9;
+        store.spillIdle();
+
+        // 비율 0.5: 4개 중 가장 오래된 2개만 내림
+        assertThat(store.hotSize()).isEqualTo(2);
+        assertThat(store.coldSize()).isEqualTo(2);
+        assertThat(store.find("newest").orElseThrow().getTopic()).isEqualTo("newest");
+        assertThat(store.coldSize()).isEqualTo(2);
+    }
+
+    @Test
+    void recordsNoHeapSpillWhenNothingCanBeSpilled() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        store.save("a", session("a", "메시지"));
+
+        heapOccupancy = 0.9;
+        store.spillIdle();
+        store.spillIdle();
+
+        assertThat(store.hotSize()).isEqualTo(1);
+        assertThat(meterRegistry.find("newscuss.session.tier.spills").tag("reason", "heap").counter()).isNull();
+    }
+
+    @Test
+    void deletesSegmentOnceNoLiveSessionRemains() throws Exception {
+        // 레코드마다 새 세그먼트를 쓰도록 아주 작은 크기
+        TieredSessionStore store = store(1);
+        store.save("a", session("a", "메시지"));
+        store.save("b", session("b", "메시지"));
+
+        advance(IDLE_MILLIS);
+        store.spillIdle();
+        assertThat(store.segmentCount()).isEqualTo(2);
+
+        // 쓰기가 끝난 세그먼트의 유일한 세션을 올리면 파일 삭제
+        store.find("a");
+        store.find("b");
+
+        assertThat(store.coldSize()).isZero();
+        // 마지막(쓰는 중인) 세그먼트는 다음 세그먼트로 넘어갈 때까지 남음
+        assertThat(store.segmentCount()).isEqualTo(1);
+        assertThat(segmentFiles()).hasSize(1);
+    }
+
+    @Test
+    void saveReplacesSpilledCopy() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        store.save("a", session("이전", "메시지"));
+        advance(IDLE_MILLIS);
+        store.spillIdle();
+
+        store.save("a", session("새 주제", "메시지"));
+
+        assertThat(store.coldSize()).isZero();
+        assertThat(store.find("a").orElseThrow().getTopic()).isEqualTo("새 주제");
+
+        store.delete("a");
+        assertThat(store.find("a")).isEmpty();
+    }
+
+    @Test
+    void refusesSaveOfInstanceOlderThanPromotedCopy() throws Exception {
+        TieredSessionStore store = store(1 << 20);
+        SessionData stale = session("이전", "메시지");
+        store.save("a", stale);
+        advance(IDLE_MILLIS);
+        store.spillIdle();
+
+        // 올라온 사본에 저장된 변경을, 내려가기 전 객체가 덮어쓰면 안 됨
+        SessionData promoted = store.find("a").orElseThrow();
+        promoted.setTopic("새 주제");
+        store.save("a", promoted);
+        store.save("a", stale);
+        assertThat(store.find("a").orElseThrow().getTopic()).isEqualTo("새 주제");
+
+        // 다시 내려간 뒤에도 마찬가지
+        advance(IDLE_MILLIS);
+        store.spillIdle();
+        store.save("a", stale);
+        assertThat(store.find("a").orElseThrow().getTopic()).isEqualTo("새 주제");
+        assertThat(stale.getVersion()).isEqualTo(1);
+    }
+
+    private List<Path> segmentFiles() throws Exception {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(file -> file.toString().endsWith(".seg")).sorted().toList();
+        }
+    }
+
+    private void advance(long millis) {
+        clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    private static SessionData session(String topic, String message) {
+        SessionData sessionData = new SessionData();
+        sessionData.setTopic(topic);
+        sessionData.setMessages(List.of(new Message("user", message, LocalDateTime.now())));
+        return sessionData;
+    }
+}
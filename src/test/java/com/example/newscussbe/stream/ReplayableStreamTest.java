@@ -0,0 +1,104 @@
+package com.example.newscussbe.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class ReplayableStreamTest {
+
+    @Test
+    void replaysMissedEventsAfterLastEventId() {
+        ReplayableStream stream = new ReplayableStream("s", 10);
+        stream.emit("a");
+        stream.emit("b");
+        stream.emit("c");
+
+        RecordingListener listener = new RecordingListener();
+        stream.attach(listener, "s-1");
+        stream.complete();
+
+        assertThat(listener.data).containsExactly("b", "c");
+        assertThat(listener.completed).isTrue();
+    }
+
+    @Test
+    void sendsReplayGapErrorWhenMissedEventsWereEvicted() {
+        ReplayableStream stream = new ReplayableStream("s", 2);
+        stream.emit("a");
+        stream.emit("b");
+        stream.emit("c");
+
+        RecordingListener listener = new RecordingListener();
+        stream.attach(listener, "s-0");
+
+        assertThat(listener.data).containsExactly(ReplayableStream.REPLAY_GAP_EVENT);
+        assertThat(listener.error).isNotNull();
+
+        // 끝난 연결에는 이후 이벤트를 보내지 않음
+        stream.emit("d");
+        assertThat(listener.data).hasSize(1);
+    }
+
+    @Test
+    void slowListenerDoesNotBlockOthers() throws Exception {
+        ReplayableStream stream = new ReplayableStream("s", 10);
+        CountDownLatch sending = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingListener slow = new RecordingListener() {
+            @Override
+            public void onEvent(StreamEvent event) throws Exception {
+                sending.countDown();
+                release.await(10, TimeUnit.SECONDS);
+                super.onEvent(event);
+            }
+        };
+        stream.attach(slow, null);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> producer = executor.submit(() -> stream.emit("a"));
+            assertThat(sending.await(10, TimeUnit.SECONDS)).isTrue();
+
+            // 느린 리스너에 전송하는 동안에도 상태 조회와 새 연결은 바로 처리됨
+            RecordingListener fast = new RecordingListener();
+            assertThat(stream.isFailed()).isFalse();
+            stream.attach(fast, null);
+            assertThat(fast.data).containsExactly("a");
+
+            release.countDown();
+            producer.get(10, TimeUnit.SECONDS);
+            assertThat(slow.data).containsExactly("a");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static class RecordingListener implements StreamListener {
+
+        final List<String> data = new ArrayList<>();
+        volatile boolean completed;
+        volatile Throwable error;
+
+        @Override
+        public void onEvent(StreamEvent event) throws Exception {
+            data.add(event.data());
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        @Override
+        public void onError(Throwable error) {
+            this.error = error;
+        }
+    }
+}